@@ -261,7 +261,8 @@ def main():
                 try:
                     update_cursor.execute("""
                         UPDATE STOCK_NEWS
-                        SET STOCK_CODE = :stock_code
+                        SET STOCK_CODE = :stock_code,
+                            UPDATED_AT = SYSDATE
                         WHERE NEWS_ID = :news_id
                     """, {
                         'stock_code': stock_code,
@@ -122,13 +122,14 @@ def list_subscriptions():
 # ------------------------
 # Spring 전송 로직 (로그 전체 활성화)
 # ------------------------
-def send_stock_to_spring(code, currentPrice, priceChange, changeRate):
+def send_stock_to_spring(code, currentPrice, priceChange, changeRate, volume):
     """실시간 주가를 Spring Boot 서버로 POST 전송"""
     payload = {
         "code": code,
         "currentPrice": currentPrice,
         "priceChange": priceChange,
-        "changeRate": changeRate
+        "changeRate": changeRate,
+        "volume": volume
     }
     print(f"➡ Spring 전송: {payload}")  # 로그 활성화
     headers = {"Content-Type": "application/json"}
@@ -145,12 +146,13 @@ def parse_and_forward_stock_payload(packed_str):
         currentPrice = pValue[2]
         priceChange = pValue[4]
         changeRate = pValue[5]
+        volume = pValue[12]  # 체결 거래량 (분봉 집계용)
 
         with lock:
             if code not in subscribed_codes:
                 return
 
-        send_stock_to_spring(code, currentPrice, priceChange, changeRate)
+        send_stock_to_spring(code, currentPrice, priceChange, changeRate, volume)
     except Exception as e:
         print("❌ 파싱 에러:", e, "원본:", packed_str)
 
@@ -17,11 +17,14 @@ import org.springframework.http.HttpEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import com.boot.realtime.StockTick;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Component
 public class StockRealtimeHandler extends TextWebSocketHandler {
 
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     private final Map<String, List<WebSocketSession>> stockSessions = new ConcurrentHashMap<>();
 
     @Override
@@ -31,7 +34,7 @@ public class StockRealtimeHandler extends TextWebSocketHandler {
 
     @Override
     public void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
-        Map<String, String> req = new ObjectMapper().readValue(message.getPayload(), Map.class);
+        Map<String, String> req = MAPPER.readValue(message.getPayload(), Map.class);
         if ("subscribe".equals(req.get("action"))) {
             String code = req.get("stockCode");
             stockSessions.computeIfAbsent(code, k -> new CopyOnWriteArrayList<>()).add(session);
@@ -49,15 +52,23 @@ public class StockRealtimeHandler extends TextWebSocketHandler {
         }
     }
 
-    public void pushStockData(String stockCode, Object data) {
-        List<WebSocketSession> sessions = stockSessions.get(stockCode);
-        if (sessions != null) {
-            sessions.forEach(s -> {
-                try {
-                    s.sendMessage(new TextMessage(new ObjectMapper().writeValueAsString(data)));
-                } catch (Exception e) { e.printStackTrace(); }
-            });
+    public void pushStockData(StockTick tick) {
+        List<WebSocketSession> sessions = stockSessions.get(tick.code());
+        if (sessions == null || sessions.isEmpty()) return;
+
+        // 틱당 한 번만 직렬화해서 모든 세션에 같은 메시지를 보낸다
+        TextMessage message;
+        try {
+            message = new TextMessage(MAPPER.writeValueAsString(tick));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return;
         }
+        sessions.forEach(s -> {
+            try {
+                s.sendMessage(message);
+            } catch (Exception e) { e.printStackTrace(); }
+        });
     }
 }
 
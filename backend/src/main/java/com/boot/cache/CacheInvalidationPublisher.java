@@ -0,0 +1,44 @@
+package com.boot.cache;
+
+import java.util.UUID;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * L1 무효화 메시지 발행 (Redis pub/sub)
+ *
+ * 메시지 형식: nodeId|cacheName|key  (key 가 비어 있으면 캐시 전체)
+ * 자기 노드가 보낸 메시지는 수신 측에서 무시한다.
+ */
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:invalidate";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+
+    public CacheInvalidationPublisher(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    void publishEvict(String cacheName, String key) {
+        publish(cacheName + "|" + key);
+    }
+
+    void publishClear(String cacheName) {
+        publish(cacheName + "|");
+    }
+
+    private void publish(String body) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + "|" + body);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드 L1 은 TTL 로 만료
+            System.err.println("캐시 무효화 전파 실패: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.boot.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시 하나의 지표
+ *
+ * - 조회: L1 히트 / L2 히트 / 미스 (미스 = loader 실행 또는 값 없음)
+ * - 적재: loader 소요 시간 히스토그램, 실패 수
+ * - 값 크기: L2 에 쓴 직렬화 바이트 (MeteredRedisCacheWriter 가 기록)
+ * - 제거: 명시적 evict / clear, L1 의 LRU·TTL 제거
+ * - 압축: 압축 전/후 바이트, 인코딩/디코딩 시간 (CompressingRedisSerializer 가 기록, 압축 캐시만)
+ */
+public class CacheMetrics {
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LatencyHistogram loadTime = new LatencyHistogram();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder clears = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder writtenBytes = new LongAdder();
+    private final LongAccumulator maxValueBytes = new LongAccumulator(Math::max, 0);
+    private volatile long lastValueBytes;
+    private final LongAdder compressed = new LongAdder();
+    private final LongAdder uncompressed = new LongAdder();
+    private final LongAdder rawBytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final LongAdder encodeNanos = new LongAdder();
+    private final LongAccumulator maxEncodeNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder decodes = new LongAdder();
+    private final LongAdder decodeNanos = new LongAdder();
+    private final LongAccumulator maxDecodeNanos = new LongAccumulator(Math::max, 0);
+
+    void l1Hit() {
+        l1Hits.increment();
+    }
+
+    void l2Hit() {
+        l2Hits.increment();
+    }
+
+    void miss() {
+        misses.increment();
+    }
+
+    void loaded(long ms) {
+        loadTime.record(ms);
+    }
+
+    void loadFailed() {
+        loadFailures.increment();
+    }
+
+    void evicted() {
+        evictions.increment();
+    }
+
+    void cleared() {
+        clears.increment();
+    }
+
+    void valueWritten(int bytes) {
+        writes.increment();
+        writtenBytes.add(bytes);
+        maxValueBytes.accumulate(bytes);
+        lastValueBytes = bytes;
+    }
+
+    // 임계값 이상이라 압축해서 저장 (압축 전/후 크기)
+    void valueCompressed(int raw, int stored, long nanos) {
+        compressed.increment();
+        rawBytes.add(raw);
+        compressedBytes.add(stored);
+        encoded(nanos);
+    }
+
+    // 임계값 미만이거나 압축해도 작아지지 않아 원본 저장
+    void valueUncompressed(long nanos) {
+        uncompressed.increment();
+        encoded(nanos);
+    }
+
+    private void encoded(long nanos) {
+        encodeNanos.add(nanos);
+        maxEncodeNanos.accumulate(nanos);
+    }
+
+    void valueDecompressed(long nanos) {
+        decodes.increment();
+        decodeNanos.add(nanos);
+        maxDecodeNanos.accumulate(nanos);
+    }
+
+    public long getHits() {
+        return l1Hits.sum() + l2Hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public Map<String, Object> snapshot(long l1Evictions) {
+        long hits = getHits();
+        long miss = misses.sum();
+        long w = writes.sum();
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("hits", hits);
+        m.put("l1Hits", l1Hits.sum());
+        m.put("l2Hits", l2Hits.sum());
+        m.put("misses", miss);
+        m.put("hitRatio", hits + miss == 0 ? 0 : (double) hits / (hits + miss));
+        m.put("loadFailures", loadFailures.sum());
+        m.put("loadTime", loadTime.snapshot());
+        m.put("evictions", evictions.sum());
+        m.put("clears", clears.sum());
+        m.put("l1Evictions", l1Evictions);
+        Map<String, Object> size = new LinkedHashMap<>();
+        size.put("writes", w);
+        size.put("avgBytes", w == 0 ? 0 : writtenBytes.sum() / w);
+        size.put("maxBytes", maxValueBytes.get());
+        size.put("lastBytes", lastValueBytes);
+        m.put("valueSize", size);
+
+        long c = compressed.sum();
+        long encodes = c + uncompressed.sum();
+        if (encodes > 0 || decodes.sum() > 0) {
+            long raw = rawBytes.sum();
+            long d = decodes.sum();
+            Map<String, Object> comp = new LinkedHashMap<>();
+            comp.put("compressed", c);
+            comp.put("uncompressed", uncompressed.sum());
+            // 압축 후 / 압축 전 (압축한 값만, 낮을수록 좋음)
+            comp.put("ratio", raw == 0 ? 1.0 : (double) compressedBytes.sum() / raw);
+            comp.put("savedBytes", raw - compressedBytes.sum());
+            comp.put("avgEncodeMicros", encodes == 0 ? 0 : encodeNanos.sum() / encodes / 1000.0);
+            comp.put("maxEncodeMicros", maxEncodeNanos.get() / 1000);
+            comp.put("decodes", d);
+            comp.put("avgDecodeMicros", d == 0 ? 0 : decodeNanos.sum() / d / 1000.0);
+            comp.put("maxDecodeMicros", maxDecodeNanos.get() / 1000);
+            m.put("compression", comp);
+        }
+        return m;
+    }
+}
@@ -0,0 +1,14 @@
+package com.boot.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 캐시 이름별 지표 (TwoLevelCache 와 MeteredRedisCacheWriter 가 같은 인스턴스에 기록)
+public class CacheMetricsRegistry {
+
+    private final Map<String, CacheMetrics> metrics = new ConcurrentHashMap<>();
+
+    public CacheMetrics forCache(String name) {
+        return metrics.computeIfAbsent(name, n -> new CacheMetrics());
+    }
+}
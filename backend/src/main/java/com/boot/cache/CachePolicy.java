@@ -0,0 +1,22 @@
+package com.boot.cache;
+
+import java.time.Duration;
+
+/**
+ * 캐시 하나의 정책: L2(Redis) TTL, L1 최대 개수, 무효화 방식, L2 값 압축
+ *
+ * L1 TTL 은 cache.l1.ttl-seconds 와 이 TTL 중 짧은 쪽을 쓴다.
+ * compression 은 cache.compression.threshold-bytes 이상인 값에만 적용된다.
+ */
+public record CachePolicy(String name, Duration ttl, int maxEntries, Invalidation invalidation,
+                          CompressionCodec compression) {
+
+    public enum Invalidation {
+        // TTL 만료만 (집계/순위처럼 종목 하나로 범위를 좁힐 수 없는 값)
+        TTL_ONLY,
+        // 데이터 갱신 시 네임스페이스 버전을 올림 (CacheVersions)
+        VERSION_BUMP,
+        // 뉴스 적재 시 해당 종목 키만 삭제 (키는 "{종목코드}" 또는 "{종목코드}:{조건}")
+        NEWS_INGEST
+    }
+}
@@ -0,0 +1,77 @@
+package com.boot.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.boot.cache.CachePolicy.Invalidation;
+import com.boot.service.IndexReadService;
+
+/**
+ * 캐시 정책 목록 (캐시 이름 → TTL / L1 최대 개수 / 무효화 방식)
+ *
+ * 기본값은 여기서 선언하고, 운영에서 조정할 값만
+ * cache.policy.{캐시}.ttl-seconds / .max-entries / .compression 으로 덮어쓴다.
+ */
+@Component
+public class CachePolicyRegistry {
+
+    // 종목별 (뉴스 적재 시 해당 종목 키 삭제)
+    public static final String STOCK_NEWS = "stockNewsCache";
+    public static final String STOCK_SENTIMENT = "stockSentimentCache";
+    public static final String STOCK_KEYWORDS = "stockKeywordsCache";
+
+    // 전 종목 집계/순위 (TTL 만료)
+    public static final String SENTIMENT_OVERVIEW = "sentimentOverviewCache";
+    public static final String TOP_KEYWORDS = "topKeywordsCache";
+    public static final String POPULAR_STOCKS = "popularStocksCache";
+    public static final String TOP_MOVERS = "topMoversCache";
+
+    private static final List<CachePolicy> DEFAULTS = List.of(
+        // 하루 한 번 갱신, 동기화 시 버전 교체 (압축은 전용 직렬화가 cache.index-history.compress 로 처리)
+        new CachePolicy(IndexReadService.HISTORY_CACHE_NAME, Duration.ofHours(24), 64, Invalidation.VERSION_BUMP,
+            CompressionCodec.NONE),
+        // 기사 본문 목록은 크고 반복이 많아 압축, 건수 집계 값은 작아서 그대로
+        new CachePolicy(STOCK_NEWS, Duration.ofMinutes(10), 512, Invalidation.NEWS_INGEST, CompressionCodec.DEFLATE),
+        new CachePolicy(STOCK_SENTIMENT, Duration.ofMinutes(10), 1024, Invalidation.NEWS_INGEST, CompressionCodec.NONE),
+        new CachePolicy(STOCK_KEYWORDS, Duration.ofMinutes(30), 512, Invalidation.NEWS_INGEST, CompressionCodec.NONE),
+        new CachePolicy(SENTIMENT_OVERVIEW, Duration.ofMinutes(5), 32, Invalidation.TTL_ONLY, CompressionCodec.DEFLATE_FAST),
+        new CachePolicy(TOP_KEYWORDS, Duration.ofMinutes(10), 32, Invalidation.TTL_ONLY, CompressionCodec.NONE),
+        new CachePolicy(POPULAR_STOCKS, Duration.ofMinutes(5), 8, Invalidation.TTL_ONLY, CompressionCodec.NONE),
+        // 실시간 순위가 비었을 때의 DB 조회만 캐시
+        new CachePolicy(TOP_MOVERS, Duration.ofSeconds(30), 8, Invalidation.TTL_ONLY, CompressionCodec.NONE)
+    );
+
+    private final Map<String, CachePolicy> policies = new LinkedHashMap<>();
+
+    public CachePolicyRegistry(Environment env) {
+        for (CachePolicy p : DEFAULTS) {
+            String prefix = "cache.policy." + p.name() + ".";
+            long ttlSeconds = env.getProperty(prefix + "ttl-seconds", Long.class, p.ttl().getSeconds());
+            int maxEntries = env.getProperty(prefix + "max-entries", Integer.class, p.maxEntries());
+            String compression = env.getProperty(prefix + "compression");
+            CompressionCodec codec = compression == null ? p.compression() : CompressionCodec.parse(compression);
+            policies.put(p.name(), new CachePolicy(p.name(), Duration.ofSeconds(ttlSeconds), maxEntries,
+                    p.invalidation(), codec));
+        }
+    }
+
+    public Collection<CachePolicy> all() {
+        return Collections.unmodifiableCollection(policies.values());
+    }
+
+    // 정책이 없는 캐시면 null (기본 설정 사용)
+    public CachePolicy get(String name) {
+        return policies.get(name);
+    }
+
+    public List<CachePolicy> byInvalidation(Invalidation invalidation) {
+        return policies.values().stream().filter(p -> p.invalidation() == invalidation).toList();
+    }
+}
@@ -0,0 +1,86 @@
+package com.boot.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 네임스페이스 버전 (Redis hash cache:versions, 필드 = {캐시}:{네임스페이스})
+ *
+ * 캐시 키에 버전을 붙여 두고(kospi@20240607-9876), 무효화는 값을 지우는 대신 버전을 올린다.
+ * 새 버전 키를 먼저 채운 뒤 버전을 바꾸면 읽는 쪽은 빈 캐시를 보지 않고,
+ * 이전 버전 키는 캐시 TTL 로 자연히 사라진다.
+ * 조회마다 Redis 를 치지 않도록 local-ttl 동안 노드 메모리에 기억한다. (다른 노드의 변경은 그만큼 늦게 반영)
+ */
+@Component("cacheVersions")
+public class CacheVersions {
+
+    public static final String HASH_KEY = "cache:versions";
+    public static final String INITIAL = "0";
+
+    private record Memo(String version, long readAt) {}
+
+    private final StringRedisTemplate redisTemplate;
+    private final long localTtlMillis;
+    private final Map<String, Memo> memo = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CacheVersions(StringRedisTemplate redisTemplate,
+                         @Value("${cache.version.local-ttl-ms:5000}") long localTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.localTtlMillis = localTtlMillis;
+    }
+
+    // 현재 버전, 한 번도 올린 적 없으면 INITIAL
+    public String current(String cacheName, String namespace) {
+        String field = field(cacheName, namespace);
+        long now = System.currentTimeMillis();
+        Memo m = memo.get(field);
+        if (m != null && now - m.readAt() < localTtlMillis) return m.version();
+
+        try {
+            Object v = redisTemplate.opsForHash().get(HASH_KEY, field);
+            String version = v == null ? INITIAL : v.toString();
+            memo.put(field, new Memo(version, now));
+            return version;
+        } catch (Exception e) {
+            // Redis 장애 시 마지막으로 본 버전 유지
+            return m != null ? m.version() : INITIAL;
+        }
+    }
+
+    // 버전이 저장된 적 있는지 (최초 기동 여부 판단)
+    public boolean exists(String cacheName, String namespace) {
+        return !INITIAL.equals(current(cacheName, namespace));
+    }
+
+    // 새 버전으로 교체 (새 버전 키를 채운 뒤 호출)
+    public void bump(String cacheName, String namespace, String version) {
+        String field = field(cacheName, namespace);
+        redisTemplate.opsForHash().put(HASH_KEY, field, version);
+        memo.put(field, new Memo(version, System.currentTimeMillis()));
+        System.out.println("🔖 [" + cacheName + "] " + namespace + " 캐시 버전 → " + version);
+    }
+
+    // 같은 데이터 버전이라도 새 네임스페이스로 (관리자 강제 무효화)
+    public String invalidate(String cacheName, String namespace) {
+        String base = current(cacheName, namespace);
+        int mark = base.indexOf('~');
+        String version = (mark < 0 ? base : base.substring(0, mark)) + "~" + System.currentTimeMillis();
+        bump(cacheName, namespace, version);
+        return version;
+    }
+
+    // 캐시 키 = 네임스페이스@버전
+    public String key(String cacheName, String namespace) {
+        return namespace + "@" + current(cacheName, namespace);
+    }
+
+    private static String field(String cacheName, String namespace) {
+        return cacheName + ":" + namespace;
+    }
+}
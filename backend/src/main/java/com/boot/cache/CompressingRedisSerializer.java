@@ -0,0 +1,65 @@
+package com.boot.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 값 직렬화 결과가 thresholdBytes 이상이면 압축해서 저장하는 RedisSerializer 래퍼
+ *
+ * 형식: MAGIC(2) | CODEC(1) | 압축 payload, 임계값 미만이거나 압축해도 작아지지 않으면 delegate 바이트 그대로.
+ * 읽을 때 MAGIC 이 없으면 delegate 로 바로 읽으므로 압축 적용 전 캐시 값과 호환된다.
+ * (JSON 은 0xC2 로 시작할 수 없어 MAGIC 과 겹치지 않는다)
+ */
+public class CompressingRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte MAGIC_0 = (byte) 0xC2;
+    private static final byte MAGIC_1 = (byte) 0x2C;
+    private static final int HEADER = 3;
+
+    private final RedisSerializer<Object> delegate;
+    private final CompressionCodec codec;
+    private final int thresholdBytes;
+    private final CacheMetrics metrics;
+
+    public CompressingRedisSerializer(RedisSerializer<Object> delegate, CompressionCodec codec,
+                                      int thresholdBytes, CacheMetrics metrics) {
+        this.delegate = delegate;
+        this.codec = codec;
+        this.thresholdBytes = thresholdBytes;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        long start = System.nanoTime();
+        byte[] raw = delegate.serialize(value);
+        if (raw == null || raw.length < thresholdBytes || codec == CompressionCodec.NONE) {
+            metrics.valueUncompressed(System.nanoTime() - start);
+            return raw;
+        }
+        byte[] packed = codec.compress(raw);
+        if (packed.length + HEADER >= raw.length) {
+            metrics.valueUncompressed(System.nanoTime() - start);
+            return raw;
+        }
+        byte[] out = new byte[packed.length + HEADER];
+        out[0] = MAGIC_0;
+        out[1] = MAGIC_1;
+        out[2] = codec.getId();
+        System.arraycopy(packed, 0, out, HEADER, packed.length);
+        metrics.valueCompressed(raw.length, out.length, System.nanoTime() - start);
+        return out;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length < HEADER || bytes[0] != MAGIC_0 || bytes[1] != MAGIC_1) {
+            return delegate.deserialize(bytes);
+        }
+        long start = System.nanoTime();
+        byte[] raw = CompressionCodec.byId(bytes[2]).decompress(bytes, HEADER, bytes.length - HEADER);
+        Object value = delegate.deserialize(raw);
+        metrics.valueDecompressed(System.nanoTime() - start);
+        return value;
+    }
+}
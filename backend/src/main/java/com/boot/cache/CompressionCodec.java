@@ -0,0 +1,88 @@
+package com.boot.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 캐시 값 압축 방식 (id 는 저장 형식에 기록되므로 바꾸지 않는다)
+ *
+ * DEFLATE_FAST 는 BEST_SPEED 레벨로 압축률보다 인코딩 시간을 우선한다.
+ */
+public enum CompressionCodec {
+
+    NONE((byte) 0, 0),
+    DEFLATE((byte) 1, Deflater.DEFAULT_COMPRESSION),
+    DEFLATE_FAST((byte) 2, Deflater.BEST_SPEED);
+
+    private final byte id;
+    private final int level;
+
+    CompressionCodec(byte id, int level) {
+        this.id = id;
+        this.level = level;
+    }
+
+    public byte getId() {
+        return id;
+    }
+
+    public static CompressionCodec byId(byte id) {
+        for (CompressionCodec c : values()) {
+            if (c.id == id) return c;
+        }
+        throw new SerializationException("알 수 없는 캐시 압축 방식: " + id);
+    }
+
+    // 설정값 (none / deflate / deflate-fast)
+    public static CompressionCodec parse(String value) {
+        if (value == null || value.isBlank()) return NONE;
+        return valueOf(value.trim().toUpperCase().replace('-', '_'));
+    }
+
+    public byte[] compress(byte[] data) {
+        if (this == NONE) return data;
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 64);
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public byte[] decompress(byte[] data, int offset, int length) {
+        if (this == NONE) {
+            byte[] out = new byte[length];
+            System.arraycopy(data, offset, out, 0, length);
+            return out;
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, offset, length);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(length * 3);
+            byte[] chunk = new byte[8192];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(chunk);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new SerializationException("캐시 압축 데이터가 손상되었습니다.");
+                }
+                out.write(chunk, 0, read);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new SerializationException("캐시 압축 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.boot.cache;
+
+import java.util.UUID;
+
+import com.boot.scheduler.LeaseStore;
+
+/**
+ * 노드 간 캐시 적재 잠금 (lock:cache:{캐시}:{키} = 토큰, SET NX PX)
+ *
+ * 잠금을 못 얻은 노드는 적재하지 않고 L2 에 값이 채워지기를 waitMillis 동안 기다린다.
+ * 잠금 보유 노드가 죽어도 lockTtlMillis 후 만료되고, 대기 시간이 지나면 각자 적재한다.
+ */
+public class DistributedLoadLock {
+
+    private final LeaseStore store;
+    private final long lockTtlMillis;
+    private final long waitMillis;
+    private final long pollMillis;
+
+    public DistributedLoadLock(LeaseStore store, long lockTtlMillis, long waitMillis, long pollMillis) {
+        this.store = store;
+        this.lockTtlMillis = lockTtlMillis;
+        this.waitMillis = waitMillis;
+        this.pollMillis = Math.max(1, pollMillis);
+    }
+
+    // 획득하면 토큰, 다른 노드가 보유 중이면 null (Redis 오류면 잠금 없이 적재하도록 토큰 반환)
+    String tryLock(String cacheName, String key) {
+        String token = UUID.randomUUID().toString();
+        try {
+            return store.setIfAbsent(lockKey(cacheName, key), token, lockTtlMillis) ? token : null;
+        } catch (Exception e) {
+            System.err.println("[" + cacheName + "] 적재 잠금 실패 (" + key + "): " + e.getMessage());
+            return token;
+        }
+    }
+
+    void unlock(String cacheName, String key, String token) {
+        try {
+            store.deleteIfEquals(lockKey(cacheName, key), token);
+        } catch (Exception e) {
+            // 해제 실패 시 TTL 로 만료
+        }
+    }
+
+    long getWaitMillis() {
+        return waitMillis;
+    }
+
+    long getPollMillis() {
+        return pollMillis;
+    }
+
+    private static String lockKey(String cacheName, String key) {
+        return "lock:cache:" + cacheName + ":" + key;
+    }
+}
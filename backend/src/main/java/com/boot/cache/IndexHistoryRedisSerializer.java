@@ -0,0 +1,177 @@
+package com.boot.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.boot.dto.IndexDataDTO;
+
+/**
+ * 지수 히스토리(List&lt;IndexDataDTO&gt;) 전용 Redis 직렬화 (컬럼 배열 바이너리)
+ *
+ * 형식: MAGIC(2) | VERSION(1) | FLAGS(1) | payload (FLAGS&1 이면 Deflate 압축)
+ * payload: count | idxNm | basDt[] (첫 값 + 증분 varint) | clpr[] | vs[] | fltRt[] (double, null 은 NaN)
+ *
+ * 히스토리 조회가 채우는 필드(idxNm, basDt, clpr, vs, fltRt)만 저장하고,
+ * 그 외 값(다른 타입, 지수명이 섞인 리스트 등)은 기존 JSON 직렬화로 넘긴다.
+ * 읽을 때도 MAGIC 이 없으면 JSON 으로 읽으므로 기존 캐시 값과 호환된다.
+ */
+public class IndexHistoryRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte MAGIC_0 = (byte) 0xC1;
+    private static final byte MAGIC_1 = (byte) 0x1D;
+    private static final byte VERSION = 1;
+    private static final byte FLAG_DEFLATE = 1;
+
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+    private final boolean compress;
+
+    public IndexHistoryRedisSerializer(boolean compress) {
+        this.compress = compress;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (!isColumnar(value)) {
+            return json.serialize(value);
+        }
+        @SuppressWarnings("unchecked")
+        byte[] payload = encode((List<IndexDataDTO>) value);
+        byte flags = 0;
+        if (compress) {
+            payload = CompressionCodec.DEFLATE_FAST.compress(payload);
+            flags |= FLAG_DEFLATE;
+        }
+        byte[] out = new byte[payload.length + 4];
+        out[0] = MAGIC_0;
+        out[1] = MAGIC_1;
+        out[2] = VERSION;
+        out[3] = flags;
+        System.arraycopy(payload, 0, out, 4, payload.length);
+        return out;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) return null;
+        if (bytes.length < 4 || bytes[0] != MAGIC_0 || bytes[1] != MAGIC_1) {
+            return json.deserialize(bytes);
+        }
+        if (bytes[2] != VERSION) {
+            throw new SerializationException("지원하지 않는 지수 캐시 형식 버전: " + bytes[2]);
+        }
+        CompressionCodec codec = (bytes[3] & FLAG_DEFLATE) != 0 ? CompressionCodec.DEFLATE_FAST : CompressionCodec.NONE;
+        byte[] payload = codec.decompress(bytes, 4, bytes.length - 4);
+        return decode(ByteBuffer.wrap(payload));
+    }
+
+    // 날짜 오름차순 + 단일 지수명 + yyyyMMdd 날짜일 때만 컬럼 형식 사용
+    private static boolean isColumnar(Object value) {
+        if (!(value instanceof List<?> list) || list.isEmpty()) return false;
+        String idxNm = null;
+        int prev = -1;
+        for (Object o : list) {
+            if (!(o instanceof IndexDataDTO dto)) return false;
+            int date = parseDate(dto.getBasDt());
+            if (date < 0 || date < prev) return false;
+            if (idxNm == null) idxNm = dto.getIdxNm();
+            if (idxNm == null || !idxNm.equals(dto.getIdxNm())) return false;
+            prev = date;
+        }
+        return true;
+    }
+
+    private static byte[] encode(List<IndexDataDTO> rows) {
+        int n = rows.size();
+        byte[] name = rows.get(0).getIdxNm().getBytes(StandardCharsets.UTF_8);
+        // 날짜 varint 최대 5바이트 + double 3컬럼
+        ByteBuffer buf = ByteBuffer.allocate(4 + 2 + name.length + n * 5 + n * 24);
+
+        buf.putInt(n);
+        buf.putShort((short) name.length);
+        buf.put(name);
+
+        int prev = 0;
+        for (IndexDataDTO dto : rows) {
+            int date = parseDate(dto.getBasDt());
+            putVarInt(buf, date - prev);
+            prev = date;
+        }
+        for (IndexDataDTO dto : rows) buf.putDouble(orNaN(dto.getClpr()));
+        for (IndexDataDTO dto : rows) buf.putDouble(orNaN(dto.getVs()));
+        for (IndexDataDTO dto : rows) buf.putDouble(orNaN(dto.getFltRt()));
+
+        byte[] out = new byte[buf.position()];
+        buf.flip();
+        buf.get(out);
+        return out;
+    }
+
+    private static List<IndexDataDTO> decode(ByteBuffer buf) {
+        int n = buf.getInt();
+        byte[] name = new byte[buf.getShort()];
+        buf.get(name);
+        String idxNm = new String(name, StandardCharsets.UTF_8);
+
+        int[] dates = new int[n];
+        int prev = 0;
+        for (int i = 0; i < n; i++) {
+            prev += getVarInt(buf);
+            dates[i] = prev;
+        }
+
+        List<IndexDataDTO> rows = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            IndexDataDTO dto = new IndexDataDTO();
+            dto.setIdxNm(idxNm);
+            dto.setBasDt(Integer.toString(dates[i]));
+            rows.add(dto);
+        }
+        for (int i = 0; i < n; i++) rows.get(i).setClpr(orNull(buf.getDouble()));
+        for (int i = 0; i < n; i++) rows.get(i).setVs(orNull(buf.getDouble()));
+        for (int i = 0; i < n; i++) rows.get(i).setFltRt(orNull(buf.getDouble()));
+        return rows;
+    }
+
+    // "yyyyMMdd" → int, 형식이 아니면 -1
+    private static int parseDate(String s) {
+        if (s == null || s.length() != 8) return -1;
+        int v = 0;
+        for (int i = 0; i < 8; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            v = v * 10 + (c - '0');
+        }
+        return v;
+    }
+
+    private static double orNaN(Double v) {
+        return v == null ? Double.NaN : v;
+    }
+
+    private static Double orNull(double v) {
+        return Double.isNaN(v) ? null : v;
+    }
+
+    private static void putVarInt(ByteBuffer buf, int v) {
+        while ((v & ~0x7F) != 0) {
+            buf.put((byte) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        buf.put((byte) v);
+    }
+
+    private static int getVarInt(ByteBuffer buf) {
+        int v = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buf.get();
+            v |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return v;
+        }
+    }
+}
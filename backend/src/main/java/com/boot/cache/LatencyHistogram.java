@@ -0,0 +1,68 @@
+package com.boot.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 구간 지연 시간 히스토그램 (ms)
+ *
+ * 구간별 LongAdder 라 기록은 잠금이 없고, 백분위는 구간 상한으로 근사한다.
+ */
+public class LatencyHistogram {
+
+    private static final long[] BOUNDS_MS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_MS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumMs = new LongAdder();
+    private final LongAccumulator maxMs = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) buckets[i] = new LongAdder();
+    }
+
+    public void record(long ms) {
+        int i = 0;
+        while (i < BOUNDS_MS.length && ms > BOUNDS_MS[i]) i++;
+        buckets[i].increment();
+        count.increment();
+        sumMs.add(ms);
+        maxMs.accumulate(ms);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    // 구간 상한 기준 근사 백분위 (마지막 구간은 최대값)
+    public long percentile(double p) {
+        long total = count.sum();
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(total * p);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i].sum();
+            if (seen >= rank) return i < BOUNDS_MS.length ? Math.min(BOUNDS_MS[i], maxMs.get()) : maxMs.get();
+        }
+        return maxMs.get();
+    }
+
+    public Map<String, Object> snapshot() {
+        long total = count.sum();
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("count", total);
+        m.put("avgMs", total == 0 ? 0 : (double) sumMs.sum() / total);
+        m.put("maxMs", maxMs.get());
+        m.put("p50Ms", percentile(0.50));
+        m.put("p95Ms", percentile(0.95));
+        m.put("p99Ms", percentile(0.99));
+        Map<String, Long> hist = new LinkedHashMap<>();
+        for (int i = 0; i < buckets.length; i++) {
+            hist.put(i < BOUNDS_MS.length ? "le" + BOUNDS_MS[i] : "inf", buckets[i].sum());
+        }
+        m.put("buckets", hist);
+        return m;
+    }
+}
@@ -0,0 +1,88 @@
+package com.boot.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * L1 힙 캐시: 최대 개수(LRU) + TTL
+ *
+ * 지수 히스토리처럼 키 수가 적고 읽기가 대부분인 값 용도라
+ * 접근 순서 LinkedHashMap 을 synchronized 로 감싼 단순 구조를 쓴다.
+ */
+class LocalCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final LinkedHashMap<String, Entry> map;
+    // LRU 초과 + TTL 만료로 빠진 항목 수 (명시적 remove/clear 제외)
+    private long evictions;
+
+    record Entry(Object value, long writtenAt, long expiresAt) {
+    }
+
+    LocalCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                boolean evict = size() > LocalCache.this.maxEntries;
+                if (evict) evictions++;
+                return evict;
+            }
+        };
+    }
+
+    synchronized Object get(String key) {
+        Entry e = getEntry(key);
+        return e == null ? null : e.value;
+    }
+
+    // 만료 전 항목 (저장 시각 포함)
+    synchronized Entry getEntry(String key) {
+        Entry e = map.get(key);
+        if (e == null) return null;
+        if (e.expiresAt < System.currentTimeMillis()) {
+            map.remove(key);
+            evictions++;
+            return null;
+        }
+        return e;
+    }
+
+    synchronized void put(String key, Object value) {
+        long now = System.currentTimeMillis();
+        map.put(key, new Entry(value, now, now + ttlMillis));
+    }
+
+    synchronized void remove(String key) {
+        map.remove(key);
+    }
+
+    synchronized void clear() {
+        map.clear();
+    }
+
+    // 만료 항목 정리 후 개수
+    synchronized int size() {
+        long now = System.currentTimeMillis();
+        for (Iterator<Entry> it = map.values().iterator(); it.hasNext(); ) {
+            if (it.next().expiresAt < now) {
+                it.remove();
+                evictions++;
+            }
+        }
+        return map.size();
+    }
+
+    synchronized List<String> keys() {
+        return new ArrayList<>(map.keySet());
+    }
+
+    synchronized long getEvictions() {
+        return evictions;
+    }
+}
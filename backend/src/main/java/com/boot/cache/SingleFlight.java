@@ -0,0 +1,63 @@
+package com.boot.cache;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 같은 키의 동시 적재를 1회로 합침 (single-flight)
+ *
+ * 먼저 들어온 호출이 loader 를 실행하고, 그 사이 같은 키로 들어온 호출은 결과(또는 예외)를 기다려 공유한다.
+ * 적재가 끝나면 키를 지우므로 결과를 보관하지는 않는다. (보관은 캐시의 몫)
+ */
+public class SingleFlight {
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public <T> T run(String key, Callable<T> loader) throws Exception {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            try {
+                return (T) running.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Exception ex) throw ex;
+                throw (Error) cause;
+            }
+        }
+
+        loads.increment();
+        try {
+            T value = loader.call();
+            mine.complete(value);
+            return value;
+        } catch (Throwable t) {
+            mine.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // loader 실제 실행 횟수
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    // 진행 중인 적재를 기다려 결과를 공유한 호출 수
+    public long getCoalescedWaiters() {
+        return coalesced.sum();
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+}
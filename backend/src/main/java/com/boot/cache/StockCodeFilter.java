@@ -0,0 +1,140 @@
+package com.boot.cache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.boot.dao.StockInfoDAO;
+
+/**
+ * 종목 코드 사전 검사 (DB 조회 전)
+ *
+ * - 형식: 영문 대문자/숫자 6자리가 아니면 거절
+ * - 목록: STOCK_INFO 전 종목 코드 집합 (시작 시 + refresh-ms 마다 다시 읽음, 신규 저장은 add 로 즉시 반영)
+ * - 음수 캐시: 목록에는 있지만 조회 결과가 없던 코드 (상장폐지 등) 를 negative-ttl-ms 동안 거절
+ *
+ * 종목 수가 수천 개라 Bloom 필터 대신 정확한 집합을 쓴다. (오탐 없음)
+ * 목록을 한 번도 못 읽었으면 (DB 장애, 빈 STOCK_INFO 등) 형식 검사만 하고 통과시킨다.
+ */
+@Component
+public class StockCodeFilter {
+
+    private static final Pattern FORMAT = Pattern.compile("[0-9A-Z]{6}");
+
+    private final Supplier<List<String>> loader;
+    private final long negativeTtlMillis;
+    private final int negativeMaxEntries;
+
+    // null 이면 아직 못 읽음
+    private volatile Set<String> known;
+    // 코드 → 만료 시각
+    private final Map<String, Long> negative = new ConcurrentHashMap<>();
+
+    private final LongAdder malformed = new LongAdder();
+    private final LongAdder unknown = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private volatile long loadedAt;
+
+    @Autowired
+    public StockCodeFilter(StockInfoDAO stockInfoDAO,
+                           @Value("${stock.code-filter.negative-ttl-ms:60000}") long negativeTtlMillis,
+                           @Value("${stock.code-filter.negative-max-entries:10000}") int negativeMaxEntries) {
+        this(stockInfoDAO::selectAllStockCodes, negativeTtlMillis, negativeMaxEntries);
+    }
+
+    StockCodeFilter(Supplier<List<String>> loader, long negativeTtlMillis, int negativeMaxEntries) {
+        this.loader = loader;
+        this.negativeTtlMillis = negativeTtlMillis;
+        this.negativeMaxEntries = negativeMaxEntries;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${stock.code-filter.refresh-ms:600000}",
+               initialDelayString = "${stock.code-filter.refresh-ms:600000}")
+    public void reload() {
+        try {
+            List<String> codes = loader.get();
+            if (codes == null || codes.isEmpty()) {
+                // 빈 목록으로 바꾸면 모든 코드를 거절하게 되므로 못 읽은 것으로 본다
+                System.err.println("⚠️ 종목 코드 목록이 비어 있음 - 이전 목록 유지");
+                return;
+            }
+            // 다 채운 뒤 한 번에 교체 (채우는 중에 조회가 빈 집합을 보지 않도록)
+            Set<String> loaded = ConcurrentHashMap.newKeySet(codes.size() * 2);
+            loaded.addAll(codes);
+            known = loaded;
+            loadedAt = System.currentTimeMillis();
+            System.out.println("✅ 종목 코드 목록 " + codes.size() + "건 로드");
+        } catch (Exception e) {
+            // 이전 목록 유지 (처음이면 형식 검사만)
+            System.err.println("❌ 종목 코드 목록 로드 실패: " + e.getMessage());
+        }
+    }
+
+    // DB 를 조회해 볼 가치가 있는 코드인지
+    public boolean mightExist(String stockCode) {
+        if (stockCode == null || !FORMAT.matcher(stockCode).matches()) {
+            malformed.increment();
+            return false;
+        }
+        Set<String> codes = known;
+        if (codes != null && !codes.contains(stockCode)) {
+            unknown.increment();
+            return false;
+        }
+        if (!negative.isEmpty()) {
+            Long expiresAt = negative.get(stockCode);
+            if (expiresAt != null) {
+                if (expiresAt > System.currentTimeMillis()) {
+                    negativeHits.increment();
+                    return false;
+                }
+                negative.remove(stockCode, expiresAt);
+            }
+        }
+        return true;
+    }
+
+    // 종목 저장 (신규 상장 포함)
+    public void add(String stockCode) {
+        if (stockCode == null) return;
+        negative.remove(stockCode);
+        Set<String> codes = known;
+        if (codes != null) codes.add(stockCode);
+    }
+
+    // 조회했지만 없던 코드
+    public void markMissing(String stockCode) {
+        long now = System.currentTimeMillis();
+        if (negative.size() >= negativeMaxEntries) {
+            negative.values().removeIf(expiresAt -> expiresAt <= now);
+            if (negative.size() >= negativeMaxEntries) negative.clear();
+        }
+        negative.put(stockCode, now + negativeTtlMillis);
+    }
+
+    public Map<String, Object> getStats() {
+        Set<String> codes = known;
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("loaded", codes != null);
+        m.put("knownCodes", codes == null ? 0 : codes.size());
+        m.put("loadedAt", loadedAt);
+        m.put("negativeEntries", negative.size());
+        m.put("rejectedMalformed", malformed.sum());
+        m.put("rejectedUnknown", unknown.sum());
+        m.put("rejectedNegative", negativeHits.sum());
+        return m;
+    }
+}
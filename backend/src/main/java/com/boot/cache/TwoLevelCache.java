@@ -0,0 +1,252 @@
+package com.boot.cache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+/**
+ * L1(힙) → L2(Redis) 순서로 조회하는 캐시
+ *
+ * - 조회: L1 히트면 JVM 밖으로 나가지 않음, L2 히트면 L1 에 채움
+ * - 저장/삭제: L2 반영 후 L1 반영, 다른 노드에는 pub/sub 로 L1 무효화 전파
+ * - L1 값은 역직렬화된 객체를 그대로 공유하므로 호출 측에서 수정하지 않는다.
+ * - refreshAfterMillis > 0 이면 stale-while-revalidate: @Cacheable(sync = true) 조회에서
+ *   L1 값이 그 시간보다 오래됐으면 기존 값을 바로 돌려주고 백그라운드로 다시 읽어 교체한다.
+ * - 조회/적재/제거는 CacheMetrics 에 기록 (L1·L2 히트, 미스, 적재 시간, evict/clear)
+ * - @Cacheable(sync = true) 미스는 키별 single-flight: 같은 노드의 동시 미스는 한 번만 적재하고,
+ *   loadLock 이 있으면 노드 간에도 한 노드만 적재하고 나머지는 L2 에 채워지기를 기다린다.
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final LocalCache l1;
+    private final Cache l2;
+    private final CacheInvalidationPublisher publisher;
+    private final long refreshAfterMillis;
+    private final Executor refreshExecutor;
+    // 백그라운드 갱신 중인 키 (키당 1건만)
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final DistributedLoadLock loadLock;
+    private final CacheMetrics metrics;
+    // 다른 노드의 적재를 기다려 L2 에서 받은 횟수 / 기다리다 시간 초과로 직접 적재한 횟수
+    private final LongAdder remoteWaits = new LongAdder();
+    private final LongAdder remoteWaitTimeouts = new LongAdder();
+
+    TwoLevelCache(String name, LocalCache l1, Cache l2, CacheInvalidationPublisher publisher,
+                  long refreshAfterMillis, Executor refreshExecutor) {
+        this(name, l1, l2, publisher, refreshAfterMillis, refreshExecutor, null, new CacheMetrics());
+    }
+
+    TwoLevelCache(String name, LocalCache l1, Cache l2, CacheInvalidationPublisher publisher,
+                  long refreshAfterMillis, Executor refreshExecutor, DistributedLoadLock loadLock,
+                  CacheMetrics metrics) {
+        super(false);
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.publisher = publisher;
+        this.refreshAfterMillis = refreshAfterMillis;
+        this.refreshExecutor = refreshExecutor;
+        this.loadLock = loadLock;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String k = key.toString();
+        Object value = l1.get(k);
+        if (value != null) {
+            metrics.l1Hit();
+            return value;
+        }
+
+        value = fromL2(key);
+        if (value == null) metrics.miss();
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String k = key.toString();
+        LocalCache.Entry entry = l1.getEntry(k);
+        if (entry != null) {
+            metrics.l1Hit();
+            if (refreshAfterMillis > 0 && System.currentTimeMillis() - entry.writtenAt() > refreshAfterMillis) {
+                refreshAsync(key, valueLoader);
+            }
+            return (T) entry.value();
+        }
+
+        try {
+            return singleFlight.run(k, () -> loadThrough(key, valueLoader));
+        } catch (ValueRetrievalException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    // L2 → (노드 간 잠금) → loader 순서, 적재한 값은 L2/L1 에 저장
+    @SuppressWarnings("unchecked")
+    private <T> T loadThrough(Object key, Callable<T> valueLoader) throws Exception {
+        T cached = (T) fromL2(key);
+        if (cached != null) return cached;
+        if (loadLock == null) return loadAndStore(key, valueLoader);
+
+        String k = key.toString();
+        String token = loadLock.tryLock(name, k);
+        if (token == null) {
+            // 다른 노드가 적재 중 → L2 에 채워질 때까지 대기
+            long deadline = System.currentTimeMillis() + loadLock.getWaitMillis();
+            while (System.currentTimeMillis() < deadline) {
+                Thread.sleep(loadLock.getPollMillis());
+                cached = (T) fromL2(key);
+                if (cached != null) {
+                    remoteWaits.increment();
+                    return cached;
+                }
+            }
+            remoteWaitTimeouts.increment();
+            return loadAndStore(key, valueLoader);
+        }
+        try {
+            // 잠금을 얻기 직전에 다른 노드가 끝냈을 수 있음
+            cached = (T) fromL2(key);
+            return cached != null ? cached : loadAndStore(key, valueLoader);
+        } finally {
+            loadLock.unlock(name, k, token);
+        }
+    }
+
+    private Object fromL2(Object key) {
+        ValueWrapper wrapper = l2.get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null) {
+            metrics.l2Hit();
+            l1.put(key.toString(), value);
+        }
+        return value;
+    }
+
+    private <T> T loadAndStore(Object key, Callable<T> valueLoader) throws Exception {
+        metrics.miss();
+        T loaded = timedLoad(valueLoader);
+        if (loaded != null) {
+            l2.put(key, loaded);
+            l1.put(key.toString(), loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        l2.put(key, value);
+        l1.put(key.toString(), value);
+        publisher.publishEvict(name, key.toString());
+    }
+
+    @Override
+    public void evict(Object key) {
+        metrics.evicted();
+        l2.evict(key);
+        l1.remove(key.toString());
+        publisher.publishEvict(name, key.toString());
+    }
+
+    @Override
+    public void clear() {
+        metrics.cleared();
+        l2.clear();
+        l1.clear();
+        publisher.publishClear(name);
+    }
+
+    private <T> T timedLoad(Callable<T> valueLoader) throws Exception {
+        long start = System.nanoTime();
+        try {
+            T loaded = valueLoader.call();
+            metrics.loaded((System.nanoTime() - start) / 1_000_000);
+            return loaded;
+        } catch (Exception e) {
+            metrics.loadFailed();
+            throw e;
+        }
+    }
+
+    private void refreshAsync(Object key, Callable<?> valueLoader) {
+        String k = key.toString();
+        if (!refreshing.add(k)) return;
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Object loaded = timedLoad(valueLoader);
+                    if (loaded != null) put(key, loaded);
+                } catch (Exception e) {
+                    // 실패 시 기존 값 유지, 다음 조회 때 다시 시도
+                    System.err.println("[" + name + "] 캐시 백그라운드 갱신 실패 (" + k + "): " + e.getMessage());
+                } finally {
+                    refreshing.remove(k);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.remove(k);
+        }
+    }
+
+    // ===== 다른 노드에서 온 무효화 (L1 만) =====
+
+    void evictLocal(String key) {
+        l1.remove(key);
+    }
+
+    void clearLocal() {
+        l1.clear();
+    }
+
+    public int getLocalSize() {
+        return l1.size();
+    }
+
+    public List<String> getLocalKeys() {
+        return l1.keys();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = metrics.snapshot(l1.getEvictions());
+        stats.put("l1Size", l1.size());
+        stats.put("singleFlight", getLoadStats());
+        return stats;
+    }
+
+    // 적재 합치기 지표 (loads: L1 미스 대표 적재 수 - L2 히트 포함, coalescedWaiters: 같은 노드에서 합쳐진 대기)
+    public Map<String, Object> getLoadStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("loads", singleFlight.getLoads());
+        stats.put("coalescedWaiters", singleFlight.getCoalescedWaiters());
+        stats.put("inFlight", singleFlight.getInFlight());
+        stats.put("distributedLock", loadLock != null);
+        stats.put("remoteWaits", remoteWaits.sum());
+        stats.put("remoteWaitTimeouts", remoteWaitTimeouts.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,130 @@
+package com.boot.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+/**
+ * L1 힙 캐시 + L2 (기존 RedisCacheManager) 2단 캐시 매니저
+ *
+ * 캐시마다 LocalCache(max-entries, ttl) 를 하나씩 두고,
+ * cache:invalidate 채널을 구독해 다른 노드의 evict/clear 를 L1 에 반영한다.
+ * swrCaches 에 포함된 캐시는 stale-while-revalidate (refreshAfterMillis) 로 동작한다.
+ * loadLock 을 주면 캐시 미스 적재를 노드 간에도 한 번으로 합친다. (없으면 노드 안에서만)
+ * 캐시별 L1 한도는 setLocalLimits 로 따로 줄 수 있다. (첫 getCache 전에 설정)
+ */
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private final CacheManager l2;
+    private final CacheInvalidationPublisher publisher;
+    private final int l1MaxEntries;
+    private final long l1TtlMillis;
+    private final Set<String> swrCaches;
+    private final long refreshAfterMillis;
+    private final DistributedLoadLock loadLock;
+    private final CacheMetricsRegistry metrics;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    // 캐시별 L1 한도 {maxEntries, ttlMillis} (없으면 공통값)
+    private final Map<String, long[]> localLimits = new ConcurrentHashMap<>();
+
+    // stale-while-revalidate 백그라운드 갱신
+    private final ExecutorService refreshExecutor = Executors.newFixedThreadPool(2, r -> {
+        Thread t = new Thread(r, "cache-refresh");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public TwoLevelCacheManager(CacheManager l2, CacheInvalidationPublisher publisher,
+                                int l1MaxEntries, long l1TtlMillis) {
+        this(l2, publisher, l1MaxEntries, l1TtlMillis, Set.of(), 0);
+    }
+
+    public TwoLevelCacheManager(CacheManager l2, CacheInvalidationPublisher publisher,
+                                int l1MaxEntries, long l1TtlMillis,
+                                Set<String> swrCaches, long refreshAfterMillis) {
+        this(l2, publisher, l1MaxEntries, l1TtlMillis, swrCaches, refreshAfterMillis, null, new CacheMetricsRegistry());
+    }
+
+    public TwoLevelCacheManager(CacheManager l2, CacheInvalidationPublisher publisher,
+                                int l1MaxEntries, long l1TtlMillis,
+                                Set<String> swrCaches, long refreshAfterMillis, DistributedLoadLock loadLock,
+                                CacheMetricsRegistry metrics) {
+        this.l2 = l2;
+        this.publisher = publisher;
+        this.l1MaxEntries = l1MaxEntries;
+        this.l1TtlMillis = l1TtlMillis;
+        this.swrCaches = swrCaches;
+        this.refreshAfterMillis = refreshAfterMillis;
+        this.loadLock = loadLock;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, n -> {
+            Cache redis = l2.getCache(n);
+            return redis == null ? null
+                    : new TwoLevelCache(n, newLocalCache(n), redis, publisher,
+                            swrCaches.contains(n) ? refreshAfterMillis : 0, refreshExecutor, loadLock,
+                            metrics.forCache(n));
+        });
+    }
+
+    public void setLocalLimits(String name, int maxEntries, long ttlMillis) {
+        localLimits.put(name, new long[] { maxEntries, ttlMillis });
+    }
+
+    private LocalCache newLocalCache(String name) {
+        long[] limits = localLimits.get(name);
+        return limits == null
+                ? new LocalCache(l1MaxEntries, l1TtlMillis)
+                : new LocalCache((int) limits[0], limits[1]);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return l2.getCacheNames();
+    }
+
+    // nodeId|cacheName|key
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3 || parts[0].equals(publisher.getNodeId())) return;
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) return;
+        if (parts[2].isEmpty()) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[2]);
+        }
+    }
+
+    // 캐시별 지표 (히트/미스/적재 시간/값 크기/제거)
+    public Map<String, Object> getStats(String name) {
+        Cache cache = getCache(name);
+        return cache instanceof TwoLevelCache t ? t.getStats() : null;
+    }
+
+    // 캐시별 적재 합치기 지표 (한 번이라도 사용된 캐시만)
+    public Map<String, Map<String, Object>> getLoadStats() {
+        Map<String, Map<String, Object>> stats = new TreeMap<>();
+        caches.forEach((name, cache) -> stats.put(name, cache.getLoadStats()));
+        return stats;
+    }
+
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -1,32 +1,119 @@
 package com.boot.config;
 
+import com.boot.cache.CacheInvalidationPublisher;
+import com.boot.cache.CacheMetricsRegistry;
+import com.boot.cache.CachePolicy;
+import com.boot.cache.CachePolicyRegistry;
+import com.boot.cache.CompressingRedisSerializer;
+import com.boot.cache.CompressionCodec;
+import com.boot.cache.DistributedLoadLock;
+import com.boot.cache.IndexHistoryRedisSerializer;
+import com.boot.cache.MeteredRedisCacheWriter;
+import com.boot.cache.TwoLevelCacheManager;
+import com.boot.scheduler.LeaseStore;
+import com.boot.service.IndexReadService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import java.time.Duration;
+import java.util.Set;
 
 @Configuration
 public class CacheConfig {
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate) {
+        return new CacheInvalidationPublisher(stringRedisTemplate);
+    }
+
+    // L1(힙, 노드별) → L2(Redis, 공유) 2단 캐시
+    @Bean(destroyMethod = "shutdown")
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             CacheInvalidationPublisher cacheInvalidationPublisher,
+                                             @Value("${cache.index-history.compress:true}") boolean compressIndexHistory,
+                                             @Value("${cache.l1.max-entries:256}") int l1MaxEntries,
+                                             @Value("${cache.l1.ttl-seconds:600}") long l1TtlSeconds,
+                                             @Value("${cache.swr.caches:}") Set<String> swrCaches,
+                                             @Value("${cache.swr.refresh-after-seconds:300}") long refreshAfterSeconds,
+                                             LeaseStore leaseStore,
+                                             @Value("${cache.single-flight.distributed-lock:false}") boolean distributedLock,
+                                             @Value("${cache.single-flight.lock-ttl-ms:30000}") long lockTtlMillis,
+                                             @Value("${cache.single-flight.wait-ms:5000}") long lockWaitMillis,
+                                             CachePolicyRegistry cachePolicies,
+                                             @Value("${cache.compression.threshold-bytes:2048}") int compressionThreshold) {
         
+        CacheMetricsRegistry metrics = new CacheMetricsRegistry();
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+
         // KOSPI 데이터는 하루에 한 번만 업데이트되므로 TTL을 24시간으로 설정
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
             .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
             // 객체(List<IndexDataDTO>) 저장을 위해 JSON 직렬화 사용
-            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(json))
             // 🌟 캐시 만료 시간을 24시간으로 설정 (스케줄러 업데이트에 의해 무효화될 예정)
             .entryTtl(Duration.ofHours(24)) 
             .disableCachingNullValues(); 
 
-        return RedisCacheManager.builder(connectionFactory)
-            .cacheDefaults(config) 
-            .build();
+        // 지수 히스토리(전 지수 공용 캐시)는 컬럼 배열 바이너리로 저장 (JSON 대비 크기/역직렬화 비용 절감)
+        RedisCacheConfiguration indexHistoryConfig = config
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                new IndexHistoryRedisSerializer(compressIndexHistory)));
+
+        // L2 기록 값 크기 측정 + clear 는 KEYS 대신 SCAN 으로 키 수집
+        RedisCacheWriter cacheWriter = new MeteredRedisCacheWriter(
+            RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.scan(1000)), metrics);
+
+        // 캐시별 TTL / 압축은 정책 목록에서 (정책 없는 캐시는 기본 24시간, 압축 없음)
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(cacheWriter)
+            .cacheDefaults(config);
+        for (CachePolicy policy : cachePolicies.all()) {
+            RedisCacheConfiguration base = config;
+            if (policy.name().equals(IndexReadService.HISTORY_CACHE_NAME)) {
+                base = indexHistoryConfig;
+            } else if (policy.compression() != CompressionCodec.NONE) {
+                base = config.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                    new CompressingRedisSerializer(json, policy.compression(), compressionThreshold,
+                        metrics.forCache(policy.name()))));
+            }
+            builder.withCacheConfiguration(policy.name(), base.entryTtl(policy.ttl()));
+        }
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.afterPropertiesSet();
+
+        // 캐시 미스 적재를 노드 간에도 1회로 (다중 노드 배포에서만 의미 있음)
+        DistributedLoadLock loadLock = distributedLock
+            ? new DistributedLoadLock(leaseStore, lockTtlMillis, lockWaitMillis, 50)
+            : null;
+
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(redisCacheManager, cacheInvalidationPublisher,
+            l1MaxEntries, l1TtlSeconds * 1000, swrCaches, refreshAfterSeconds * 1000, loadLock, metrics);
+        // L1 은 정책 최대 개수, TTL 은 L2 보다 길지 않게
+        for (CachePolicy policy : cachePolicies.all()) {
+            manager.setLocalLimits(policy.name(), policy.maxEntries(),
+                Math.min(l1TtlSeconds * 1000, policy.ttl().toMillis()));
+        }
+        return manager;
+    }
+
+    // 다른 노드의 evict/clear 를 받아 L1 무효화
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                   TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        return container;
     }
 }
\ No newline at end of file
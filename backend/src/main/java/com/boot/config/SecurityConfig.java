@@ -42,7 +42,10 @@ public class SecurityConfig {
 	        .antMatchers("/auth/qr/create", "/auth/qr/status").permitAll()
 	        .antMatchers("/auth/**").permitAll()
 	
-	        // 3. api/**는 그 뒤
+	        // 3. api/** 중 관리자 경로는 permitAll 보다 먼저
+	        .antMatchers("/api/admin/**").hasRole("ADMIN")
+
+	        // 4. api/**는 그 뒤
 	        .antMatchers("/api/**").permitAll()
 	
 	        // 4. admin
@@ -0,0 +1,72 @@
+package com.boot.controller;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.boot.dao.IndexJobRunDAO;
+import com.boot.dto.IndexGapDTO;
+import com.boot.dto.IndexJobRunDTO;
+import com.boot.service.IndexBackfillService;
+import com.boot.service.IndexService;
+import com.boot.service.IndexSyncService;
+
+import lombok.RequiredArgsConstructor;
+
+// 지수 동기화 상태 (관리자)
+@RestController
+@RequestMapping("/admin/index")
+@RequiredArgsConstructor
+public class AdminIndexController {
+
+    private final IndexSyncService indexSyncService;
+    private final IndexService indexService;
+    private final IndexBackfillService indexBackfillService;
+    private final IndexJobRunDAO indexJobRunDAO;
+
+    // 진행 상태 - 첫 동기화 전에는 503 (readiness 용도)
+    @GetMapping("/sync")
+    public ResponseEntity<Map<String, Object>> syncStatus() {
+        Map<String, Object> status = indexSyncService.getStatus();
+        return indexSyncService.isReady()
+                ? ResponseEntity.ok(status)
+                : ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(status);
+    }
+
+    // 수동 재동기화
+    @PostMapping("/sync")
+    public ResponseEntity<Map<String, Object>> startSync() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("started", indexSyncService.start());
+        result.put("status", indexSyncService.getStatus());
+        return ResponseEntity.accepted().body(result);
+    }
+
+    @GetMapping("/reports")
+    public Map<String, Object> reports() {
+        return new HashMap<>(indexService.getLastCollectReports());
+    }
+
+    // 누락 구간 조회 (보충은 POST /sync 로 동기화 작업에 포함)
+    @GetMapping("/gaps")
+    public Map<String, List<IndexGapDTO>> gaps() {
+        Map<String, List<IndexGapDTO>> result = new HashMap<>();
+        for (String idxNm : indexService.getSyncTargets()) {
+            result.put(idxNm, indexBackfillService.findGaps(idxNm));
+        }
+        return result;
+    }
+
+    // 수집 작업 마지막 실행 기록 (소요 시간/행 수/펜싱 토큰)
+    @GetMapping("/jobs")
+    public List<IndexJobRunDTO> jobs() {
+        return indexJobRunDAO.selectRuns();
+    }
+}
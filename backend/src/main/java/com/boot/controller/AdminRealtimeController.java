@@ -0,0 +1,39 @@
+package com.boot.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.boot.realtime.StockBarAggregator;
+import com.boot.service.StockBarService;
+import com.boot.service.StockPriceFlushService;
+
+import lombok.RequiredArgsConstructor;
+
+// 실시간 파이프라인 상태 (관리자)
+@RestController
+@RequestMapping("/admin/realtime")
+@RequiredArgsConstructor
+public class AdminRealtimeController {
+
+    private final StockPriceFlushService stockPriceFlushService;
+    private final StockBarAggregator stockBarAggregator;
+    private final StockBarService stockBarService;
+
+    @GetMapping("/stats")
+    public Map<String, Object> stats() {
+        Map<String, Object> bars = new HashMap<>();
+        bars.put("pending", stockBarAggregator.getPendingCount());
+        bars.put("dropped", stockBarAggregator.getDroppedCount());
+        bars.put("lateTicks", stockBarAggregator.getLateTickCount());
+        bars.put("failed", stockBarService.getFailedBars());
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("priceFlush", stockPriceFlushService.getStats());
+        result.put("bars", bars);
+        return result;
+    }
+}
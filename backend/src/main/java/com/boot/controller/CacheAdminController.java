@@ -2,29 +2,121 @@
 
 package com.boot.controller;
 
+import com.boot.cache.StockCodeFilter;
+import com.boot.cache.TwoLevelCacheManager;
 import com.boot.service.CacheEvictService;
+import com.boot.service.CacheInspectionService;
+import com.boot.service.IndexReadService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @RestController
-@RequestMapping("/api/admin/cache")
+@RequestMapping("/admin/cache")
 public class CacheAdminController {
 
     @Autowired
     private CacheEvictService cacheEvictService;
 
-    // POST 요청을 통해 KOSPI/KOSDAQ 캐시 전체를 강제로 삭제합니다.
+    @Autowired
+    private IndexReadService indexReadService;
+
+    @Autowired
+    private TwoLevelCacheManager cacheManager;
+
+    @Autowired
+    private CacheInspectionService cacheInspectionService;
+
+    @Autowired
+    private StockCodeFilter stockCodeFilter;
+
+    // POST 요청을 통해 지수 히스토리 캐시 전체를 강제로 삭제합니다.
     @PostMapping("/clear-all")
     public ResponseEntity<String> clearAllCaches() {
         try {
-            cacheEvictService.evictKospiHistoryCache();
-            cacheEvictService.evictKosdaqHistoryCache();
+            cacheEvictService.clearIndexHistoryCache();
+            // 범위 조회용 메모리 히스토리도 다음 조회 때 DB 에서 다시 적재
+            indexReadService.invalidateAllSeries();
             return ResponseEntity.ok("All Index Caches Cleared Successfully.");
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body("Cache Clear Failed: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    // 캐시별 적재 합치기 지표 (실제 적재 수 / 합쳐진 대기 수 / 다른 노드 적재 대기)
+    @GetMapping("/single-flight")
+    public Map<String, Map<String, Object>> singleFlightStats() {
+        return cacheManager.getLoadStats();
+    }
+
+    // 종목 코드 사전 검사 (목록 크기, 음수 캐시 크기, 사유별 거절 수)
+    @GetMapping("/stock-codes")
+    public Map<String, Object> stockCodeFilterStats() {
+        return stockCodeFilter.getStats();
+    }
+
+    // 종목 코드 목록 즉시 다시 읽기 (상장/폐지 반영)
+    @PostMapping("/stock-codes/reload")
+    public Map<String, Object> reloadStockCodes() {
+        stockCodeFilter.reload();
+        return stockCodeFilter.getStats();
+    }
+
+    // 캐시 목록 + 요약 (L1 개수, 히트/미스)
+    @GetMapping
+    public List<Map<String, Object>> listCaches() {
+        return cacheInspectionService.listCaches();
+    }
+
+    // 캐시 상세 지표 (L1/L2 히트, 미스, 적재 시간 히스토그램, 값 크기, 제거 수)
+    @GetMapping("/{name}")
+    public ResponseEntity<Map<String, Object>> cacheStats(@PathVariable String name) {
+        Map<String, Object> stats = cacheInspectionService.getStats(name);
+        return stats == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(stats);
+    }
+
+    // Redis 키 조회 (SCAN, pattern 은 Redis glob)
+    @GetMapping("/{name}/keys")
+    public ResponseEntity<List<String>> cacheKeys(@PathVariable String name,
+                                                  @RequestParam(defaultValue = "*") String pattern,
+                                                  @RequestParam(defaultValue = "100") int limit) {
+        if (!cacheInspectionService.exists(name)) return ResponseEntity.notFound().build();
+        return ResponseEntity.ok(cacheInspectionService.scanKeys(name, pattern, Math.max(1, Math.min(limit, 1000))));
+    }
+
+    // 캐시 비우기 (L1 + Redis + 다른 노드 L1)
+    @DeleteMapping("/{name}")
+    public ResponseEntity<String> clearCache(@PathVariable String name) {
+        if (!cacheInspectionService.exists(name)) return ResponseEntity.notFound().build();
+        cacheInspectionService.clear(name);
+        return ResponseEntity.ok(name + " cleared");
+    }
+
+    // 키 하나(key) 또는 패턴(pattern) 삭제
+    @DeleteMapping("/{name}/keys")
+    public ResponseEntity<Map<String, Object>> evictKeys(@PathVariable String name,
+                                                         @RequestParam(required = false) String key,
+                                                         @RequestParam(required = false) String pattern) {
+        if (!cacheInspectionService.exists(name)) return ResponseEntity.notFound().build();
+        if ((key == null) == (pattern == null)) return ResponseEntity.badRequest().build();
+
+        Map<String, Object> result = new HashMap<>();
+        if (key != null) {
+            cacheInspectionService.evict(name, key);
+            result.put("evicted", List.of(key));
+        } else {
+            result.put("evicted", cacheInspectionService.evictByPattern(name, pattern));
+        }
+        return ResponseEntity.ok(result);
+    }
+}
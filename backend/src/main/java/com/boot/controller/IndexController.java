@@ -2,10 +2,13 @@ package com.boot.controller;
 
 import com.boot.dto.IndexDataDTO;
 import com.boot.service.IndexReadService;
+import com.boot.service.IndicatorService;
 import com.boot.service.IndexService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 import java.util.Map;
 
@@ -20,16 +23,79 @@ public class IndexController {
     @Autowired
     private IndexService indexService;
 
+    @Autowired
+    private IndicatorService indicatorService;
+
+    // 히스토리 응답은 ETag/Last-Modified 로 조건부 요청 처리
+    // (If-None-Match 일치 시 checkNotModified 가 304 를 쓰고 null 반환으로 본문 생략)
     @GetMapping("/kospi-history")
-    public ResponseEntity<List<IndexDataDTO>> getKospiHistory() {
-        return ResponseEntity.ok(IndexReadService.getKospiTimeSeriesData());
+    public ResponseEntity<List<IndexDataDTO>> getKospiHistory(WebRequest request) {
+        if (notModified(IndexReadService.KOSPI, request)) return null;
+        return withValidators(IndexReadService.KOSPI).body(IndexReadService.getTimeSeriesData(IndexReadService.KOSPI));
     }
 
     @GetMapping("/kosdaq-history")
-    public ResponseEntity<List<IndexDataDTO>> getKosdaqHistory() {
-        return ResponseEntity.ok(IndexReadService.getKosdaqTimeSeriesData());
+    public ResponseEntity<List<IndexDataDTO>> getKosdaqHistory(WebRequest request) {
+        if (notModified(IndexReadService.KOSDAQ, request)) return null;
+        return withValidators(IndexReadService.KOSDAQ).body(IndexReadService.getTimeSeriesData(IndexReadService.KOSDAQ));
+    }
+
+    // 범위 조회 (from/to: yyyyMMdd, maxPoints 개 이하로 LTTB 다운샘플링)
+    // sinceBasDt 가 있으면 그 날짜(포함) 이후 포인트만 원본 그대로 반환 (증분 동기화)
+    @GetMapping("/{index}/history")
+    public ResponseEntity<Map<String, Object>> getHistoryRange(
+            @PathVariable String index,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(defaultValue = "500") int maxPoints,
+            @RequestParam(required = false) String sinceBasDt,
+            WebRequest request
+    ) {
+        if (!IndexReadService.supportsIndex(index)) {
+            return ResponseEntity.notFound().build();
+        }
+        if (notModified(index, request)) return null;
+        try {
+            Map<String, Object> body = sinceBasDt != null
+                    ? IndexReadService.getHistorySince(index, sinceBasDt)
+                    : IndexReadService.getHistoryRange(index, from, to, maxPoints);
+            return withValidators(index).body(body);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 기술적 지표 (MA 5/20/60/120, EMA 12/26, RSI 14, 볼린저 20) - /history 와 같은 날짜로 다운샘플링
+    @GetMapping("/{index}/indicators")
+    public ResponseEntity<Map<String, Object>> getIndicators(
+            @PathVariable String index,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(defaultValue = "500") int maxPoints,
+            WebRequest request
+    ) {
+        if (!IndexReadService.supportsIndex(index)) {
+            return ResponseEntity.notFound().build();
+        }
+        if (notModified(index, request)) return null;
+        try {
+            return withValidators(index).body(indicatorService.getIndicators(index, from, to, maxPoints));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private boolean notModified(String index, WebRequest request) {
+        return request.checkNotModified(IndexReadService.getETag(index), IndexReadService.getLastModified(index));
+    }
+
+    // no-cache: 브라우저가 매번 If-None-Match 로 재검증 → 변경 없으면 304
+    private ResponseEntity.BodyBuilder withValidators(String index) {
+        return ResponseEntity.ok()
+                .eTag(IndexReadService.getETag(index))
+                .lastModified(IndexReadService.getLastModified(index))
+                .cacheControl(CacheControl.noCache());
     }
-    
 
     @GetMapping("/latest")
     public Map<String, Object> getLatestIndex() {
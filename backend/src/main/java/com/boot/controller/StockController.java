@@ -9,18 +9,21 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import com.boot.StockRealtimeHandler;
+import com.boot.cache.StockCodeFilter;
 import com.boot.dto.StockDetailResponseDTO;
 import com.boot.dto.StockInfoDTO;
 import com.boot.dto.StockNewsDTO;
+import com.boot.realtime.StockTick;
 import com.boot.service.StockInfoService;
 import com.boot.service.StockNewsService;
+import com.boot.service.StockBarService;
 import com.boot.service.StockService;
+import com.boot.service.StockTickService;
 
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import lombok.RequiredArgsConstructor;
 
@@ -41,6 +44,8 @@ public class StockController {
     private final StockInfoService stockInfoService;
     private final StockNewsService stockNewsService;
     private final StockService stockService;
+    private final StockBarService stockBarService;
+    private final StockCodeFilter stockCodeFilter;
 
     // 자동완성 + 검색
     @GetMapping("/search")
@@ -50,17 +55,25 @@ public class StockController {
         return ResponseEntity.ok(result);
     }
 
-    // 상세보기
+    // 상세보기 (없는 종목 코드는 DB 조회 없이 404)
     @GetMapping("/{stockCode}")
-    public StockDetailResponseDTO getDetail(@PathVariable String stockCode) {
+    public ResponseEntity<StockDetailResponseDTO> getDetail(@PathVariable String stockCode) {
+        if (!stockCodeFilter.mightExist(stockCode)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        StockInfoDTO stockInfo = stockInfoService.getStockDetail(stockCode);
+        if (stockInfo == null) {
+            return ResponseEntity.notFound().build();
+        }
 
         StockDetailResponseDTO dto = new StockDetailResponseDTO();
 
-        dto.setStockInfo(stockInfoService.getStockDetail(stockCode));
+        dto.setStockInfo(stockInfo);
         dto.setNewsList(stockNewsService.getNewsByStock(stockCode));
         dto.setSentiment(stockNewsService.getSentimentSummary(stockCode));
 
-        return dto;
+        return ResponseEntity.ok(dto);
     }
     @PostMapping
     public String insertStockInfo(@RequestBody StockInfoDTO dto) {
@@ -116,9 +129,6 @@ public class StockController {
     }
     
     
-    @Autowired
-    private SimpMessagingTemplate messagingTemplate;
-
     @Autowired
     @Qualifier("myRestTemplate")
     private RestTemplate restTemplate;
@@ -126,17 +136,52 @@ public class StockController {
     @Autowired
     private WebClient webClient; // ✅ WebClient 주입
 
+    @Autowired
+    private StockTickService stockTickService;
+
     @PostMapping("/realtime")
-    public void receiveStock(@RequestBody StockData stockData) {
-        // React에 브로드캐스트
-        messagingTemplate.convertAndSend("/topic/stock/" + stockData.code, stockData);
+    public void receiveStock(@RequestBody StockTick tick) {
+        // 리스너 처리 후 React에 브로드캐스트
+        stockTickService.ingest(tick);
+    }
+
+    // 최근 실시간 틱 (재접속 시 sinceSeq 이후분 이어받기, epoch 는 이전 응답/틱의 epoch)
+    @GetMapping("/{stockCode}/ticks")
+    public Map<String, Object> getRecentTicks(
+            @PathVariable String stockCode,
+            @RequestParam(defaultValue = "0") long sinceSeq,
+            @RequestParam(defaultValue = "0") long epoch,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        long serverEpoch = stockTickService.getEpoch();
+        // epoch 가 다르면 seq 가 새로 시작된 것 → 처음부터 다시 주고 누락으로 알린다
+        boolean epochChanged = sinceSeq > 0 && epoch != serverEpoch;
+        long from = epochChanged ? 0 : sinceSeq;
+
+        List<StockTick> ticks = stockTickService.getTicksSince(stockCode, from, limit);
+        StockTick latest = stockTickService.getLatestTick(stockCode);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("latest", latest);
+        result.put("ticks", ticks);
+        result.put("epoch", serverEpoch);
+        result.put("lastSeq", latest == null ? 0 : latest.seq());
+        // 요청한 sinceSeq 다음 틱이 이미 버퍼에서 밀려났으면 중간 누락 발생
+        result.put("gap", epochChanged || (from > 0 && !ticks.isEmpty() && ticks.get(0).seq() > from + 1));
+        return result;
     }
 
-    public static class StockData {
-        public String code;          // 종목코드
-        public String currentPrice;  // 현재가
-        public String priceChange;   // 전일대비
-        public String changeRate;    // 등락률
+    // 분봉 조회 (interval: 1 / 5분, 현재 봉은 메모리에서, 지난 봉은 DB 에서)
+    @GetMapping("/{stockCode}/bars")
+    public ResponseEntity<Map<String, Object>> getBars(
+            @PathVariable String stockCode,
+            @RequestParam(defaultValue = "1") int interval,
+            @RequestParam(defaultValue = "60") int limit
+    ) {
+        if (!stockBarService.supportsInterval(interval)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(stockBarService.getBars(stockCode, interval, Math.min(limit, 500)));
     }
 
     @PostMapping("/subscribe/{code}")
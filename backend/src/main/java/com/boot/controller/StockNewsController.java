@@ -4,8 +4,10 @@ package com.boot.controller;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.boot.cache.StockCodeFilter;
 import com.boot.dto.StockNewsDTO;
 import com.boot.dto.SentimentSummaryDTO;
 import com.boot.service.StockNewsService;
@@ -19,11 +21,15 @@ import lombok.RequiredArgsConstructor;
 public class StockNewsController {
 
     private final StockNewsService stockNewsService;
+    private final StockCodeFilter stockCodeFilter;
 
-    // 종목별 뉴스 리스트
+    // 종목별 뉴스 리스트 (없는 종목 코드는 DB 조회 없이 404)
     @GetMapping("/{stockCode}")
-    public List<StockNewsDTO> getNews(@PathVariable String stockCode) {
-        return stockNewsService.getNewsByStock(stockCode);
+    public ResponseEntity<List<StockNewsDTO>> getNews(@PathVariable String stockCode) {
+        if (!stockCodeFilter.mightExist(stockCode)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(stockNewsService.getNewsByStock(stockCode));
     }
 
     // 종목별 감성 요약 (기본)
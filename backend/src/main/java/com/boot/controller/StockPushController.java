@@ -1,7 +1,5 @@
 package com.boot.controller;
 
-import java.util.Map;
-
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -10,6 +8,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.boot.StockRealtimeHandler;
+import com.boot.realtime.StockTick;
 
 @RestController
 @RequestMapping("/api/stocks")
@@ -20,10 +19,9 @@ public class StockPushController {
 
     // 기존 Controller와 충돌 방지 위해 URL 변경
     @PostMapping("/push-realtime")
-    public ResponseEntity<?> pushStock(@RequestBody Map<String, Object> body) {
-        String stockCode = (String) body.get("stockCode");
-        Object data = body.get("data");
-        handler.pushStockData(stockCode, data);
+    // body: {"stockCode": "...", "data": {...}} 또는 {"code": "...", ...} (StockTickDeserializer 참고)
+    public ResponseEntity<?> pushStock(@RequestBody StockTick tick) {
+        handler.pushStockData(tick);
         return ResponseEntity.ok("ok");
     }
 }
@@ -0,0 +1,37 @@
+package com.boot.dao;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.boot.dto.IndexCheckpointDTO;
+import com.boot.dto.IndexGapDTO;
+
+@Mapper
+public interface IndexCheckpointDAO {
+
+    // 페이지 상태 일괄 저장 (같은 페이지는 상태 갱신 + ATTEMPTS 증가)
+    int mergePages(@Param("list") List<IndexCheckpointDTO> pages);
+
+    // 작업의 저장 완료 페이지
+    List<Integer> selectDonePages(
+            @Param("idxNm") String idxNm,
+            @Param("beginDt") String beginDt,
+            @Param("endDt") String endDt);
+
+    // 끝나지 않은 작업 (DONE 페이지 수 < TOTAL_PAGES), pageNo 는 사용 안 함
+    List<IndexCheckpointDTO> selectIncompleteJobs(@Param("idxNm") String idxNm);
+
+    // 작업 완료 시 체크포인트 삭제 (EMPTY 표시는 남김)
+    int deleteJob(
+            @Param("idxNm") String idxNm,
+            @Param("beginDt") String beginDt,
+            @Param("endDt") String endDt);
+
+    // 누락 구간 (startDt 이후, 연속 기준일자 사이 평일이 gapWeekdays 일 이상, EMPTY 확인된 구간 제외)
+    List<IndexGapDTO> selectGaps(
+            @Param("idxNm") String idxNm,
+            @Param("startDt") String startDt,
+            @Param("gapWeekdays") int gapWeekdays);
+}
@@ -2,34 +2,25 @@ package com.boot.dao;
 
 import com.boot.dto.IndexDataDTO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import java.util.List;
 
+// 지수 시계열 (STOCK_INDEX_DATA 한 테이블, 모든 메서드는 지수명으로 구분)
 @Mapper
 public interface IndexDAO {
 
-    // 🌟 KOSPI 지수 데이터 삽입 또는 업데이트 (Merge Into)
-    void insertOrUpdateIndexData(IndexDataDTO dto);
-    
+    // 🌟 지수 데이터 삽입 또는 업데이트 (Merge Into) - IndexBatchWriter 가 JDBC batch 로 묶어 호출
+    void upsertIndexData(IndexDataDTO dto);
+
     // 🌟 차트 출력을 위한 전체 히스토리 조회
-    List<IndexDataDTO> selectKospiHistory();
-    
-    // KOSPI 데이터 개수 카운트 (초기 로딩 스킵 여부 판단용)
-    int countIndexData(String idxNm);
-    
-    // KOSDAQ
-    void insertOrUpdateKosdaqIndexData(com.boot.dto.IndexDataDTO dto);
-    List<com.boot.dto.IndexDataDTO> selectKosdaqHistory();
-    int countKosdaqIndexData(String idxNm);
-    
+    List<IndexDataDTO> selectHistory(@Param("idxNm") String idxNm);
 
-	 // KOSPI 테이블의 가장 최근 날짜를 'yyyyMMdd' 문자열로 조회
-	 String selectLatestBasDt(String idxNm); 
-	
-	 // KOSDAQ 테이블의 가장 최근 날짜를 'yyyyMMdd' 문자열로 조회
-	 String selectLatestKosdaqBasDt(String idxNm);
-	 
-	 IndexDataDTO selectLatestKospi();
-	 IndexDataDTO selectLatestKosdaq();
+    // basDt(포함) 이후 히스토리 - 수집 후 메모리 히스토리 증분 갱신용
+    List<IndexDataDTO> selectHistorySince(@Param("idxNm") String idxNm, @Param("basDt") String basDt);
 
+    // 가장 최근 날짜 ('yyyyMMdd'), 데이터가 없으면 null
+    String selectLatestBasDt(@Param("idxNm") String idxNm);
 
-}
\ No newline at end of file
+    // 지수별 최신 1행 (쿼리 1회)
+    List<IndexDataDTO> selectLatestByIndex(@Param("idxNms") List<String> idxNms);
+}
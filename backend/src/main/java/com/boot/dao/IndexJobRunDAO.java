@@ -0,0 +1,23 @@
+package com.boot.dao;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.boot.dto.IndexJobRunDTO;
+
+@Mapper
+public interface IndexJobRunDAO {
+
+    // 실행 시작 (저장된 토큰보다 클 때만 반영, 0 이면 더 새로운 실행이 있음)
+    int startRun(IndexJobRunDTO run);
+
+    // 실행 종료 (같은 토큰일 때만 반영, 0 이면 그 사이 다른 노드가 시작함)
+    int finishRun(IndexJobRunDTO run);
+
+    // 오늘(DB 기준) 일일 스케줄이 DONE 됐으면 1 (SCHEDULE_DONE_AT, 기동 동기화 기록과 무관)
+    int countScheduleDoneToday(@Param("jobName") String jobName);
+
+    List<IndexJobRunDTO> selectRuns();
+}
@@ -0,0 +1,21 @@
+package com.boot.dao;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.boot.dto.StockBarDTO;
+
+@Mapper
+public interface StockBarDAO {
+
+    // 닫힌 분봉 일괄 저장 (MERGE ... USING (SELECT .. UNION ALL ..))
+    int mergeBars(@Param("list") List<StockBarDTO> bars);
+
+    // 최근 분봉 limit 개 (시간 오름차순)
+    List<StockBarDTO> selectRecentBars(
+            @Param("stockCode") String stockCode,
+            @Param("intervalMin") int intervalMin,
+            @Param("limit") int limit);
+}
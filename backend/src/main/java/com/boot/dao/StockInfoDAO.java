@@ -26,6 +26,12 @@ public interface StockInfoDAO {
     
     // 🌟 급락 종목 (등락률 하위 3개)
     List<StockInfoDTO> selectTopFallingStocks();
+
+    // 전 종목 등락률 (급등/급락 메모리 순위 초기화용)
+    List<StockInfoDTO> selectAllChangeRates();
+
+    // 전 종목 코드 (StockCodeFilter 목록)
+    List<String> selectAllStockCodes();
     
     List<StockNewsDTO> searchNews(String keyword);
 }
@@ -1,12 +1,19 @@
 package com.boot.dao;
 
+import java.util.List;
+
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import com.boot.dto.StockInfoDTO;
 import com.boot.dto.StockNewsDTO;
+import com.boot.realtime.StockTick;
 
 @Mapper
 public interface StockMapper {
     void insertStockInfo(StockInfoDTO dto);
     void insertStockNews(StockNewsDTO dto);
+
+    // 실시간 틱 최신가 일괄 반영 (종목당 1행)
+    int updateRealtimePrices(@Param("list") List<StockTick> ticks);
 }
@@ -54,4 +54,7 @@ public interface StockNewsDAO {
 
     List<Map<String, Object>> getTop10PopularStocks();
 
+    // 최근 lookbackMinutes 분 안에 적재/수정된 뉴스의 종목별 변경 서명 (STOCK_CODE, SIGNATURE)
+    List<Map<String, Object>> selectRecentNewsChanges(@Param("lookbackMinutes") int lookbackMinutes);
+
 }
@@ -0,0 +1,19 @@
+package com.boot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 지수 수집 체크포인트 (INDEX_COLLECT_CHECKPOINT)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IndexCheckpointDTO {
+
+    private String idxNm;
+    private String beginDt;
+    private String endDt;
+    private Integer pageNo;
+    private Integer totalPages;
+    private String status;      // DONE / FAILED / EMPTY
+}
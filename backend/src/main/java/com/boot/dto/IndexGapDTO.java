@@ -0,0 +1,15 @@
+package com.boot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 지수 데이터 누락 구간 [gapFrom, gapTo] (YYYYMMDD, 양끝 포함)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IndexGapDTO {
+
+    private String gapFrom;
+    private String gapTo;
+}
@@ -0,0 +1,25 @@
+package com.boot.dto;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 지수 수집 작업 실행 기록 (INDEX_JOB_RUN)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IndexJobRunDTO {
+
+    private String jobName;
+    private Long fenceToken;
+    private String triggerType;     // SCHEDULE / STARTUP
+    private String nodeId;
+    private String status;          // RUNNING / DONE / FAILED (+ 기록 안 되는 SKIPPED / FENCED)
+    private Date startedAt;
+    private Long durationMs;
+    private Integer rowCount;
+    private String errorMsg;
+    private Date scheduleDoneAt;    // 마지막 일일 스케줄 완료 (시작 시각)
+}
@@ -0,0 +1,25 @@
+package com.boot.dto;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 분봉(OHLCV) - STOCK_MINUTE_BAR
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockBarDTO {
+
+    private String stockCode;   // 종목코드
+    private Integer intervalMin; // 봉 간격(분) 1 / 5
+    private Date barTime;       // 봉 시작 시각
+
+    private Long openPr;        // 시가
+    private Long highPr;        // 고가
+    private Long lowPr;         // 저가
+    private Long closePr;       // 종가
+    private Long volume;        // 거래량 합계
+    private Integer tickCount;  // 체결 건수
+}
@@ -0,0 +1,97 @@
+package com.boot.index;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.boot.dao.IndexDAO;
+import com.boot.dto.IndexDataDTO;
+
+/**
+ * 지수 데이터 배치 저장 (MERGE 를 JDBC batch 로 묶어 실행)
+ *
+ * - batch-size 행씩 BATCH 세션에서 MERGE 를 addBatch → 한 번에 실행
+ * - 배치가 실패하면 그 배치를 행 단위로 다시 저장 (MERGE 라 재실행해도 안전)
+ * - 행 단위에서도 실패한 행은 건너뛰고 개수만 집계
+ *
+ * 세션은 mybatis-spring(SpringManagedTransaction)이 커넥션을 관리하므로 openSession 의 autoCommit 인자는
+ * 무시되고, 풀 기본값(autoCommit=true)에서는 commit/rollback 도 동작하지 않는다.
+ * 즉 실패한 배치에서 실패 지점 앞의 행은 이미 반영되어 있을 수 있으며 롤백되지 않는다.
+ */
+@Component
+public class IndexBatchWriter {
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Value("${index.write.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * rows 를 batch-size 단위로 upsert 한다. (지수 구분은 행의 idxNm, 여러 지수가 섞여도 됨)
+     * 저장하지 못한 행 수를 반환한다.
+     */
+    public int write(List<IndexDataDTO> rows, IndexWriteStats stats) {
+        return write(rows, stats, () -> true);
+    }
+
+    // active 가 false 가 되면(리스 상실 등) 다음 배치 전에 예외로 중단 (이미 저장한 배치는 유지)
+    public int write(List<IndexDataDTO> rows, IndexWriteStats stats, BooleanSupplier active) {
+        int failedRows = 0;
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            if (!active.getAsBoolean()) {
+                throw new IllegalStateException("지수 저장 중단 - 작업 리스 상실 (" + from + "/" + rows.size() + "건 처리)");
+            }
+            List<IndexDataDTO> chunk = rows.subList(from, Math.min(from + batchSize, rows.size()));
+            long startedAt = System.currentTimeMillis();
+            if (writeBatch(chunk)) {
+                stats.add(chunk.size(), System.currentTimeMillis() - startedAt, false, 0);
+            } else {
+                int failed = writeRowByRow(chunk);
+                stats.add(chunk.size(), System.currentTimeMillis() - startedAt, true, failed);
+                failedRows += failed;
+            }
+        }
+        return failedRows;
+    }
+
+    private boolean writeBatch(List<IndexDataDTO> chunk) {
+        try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+            try {
+                IndexDAO dao = session.getMapper(IndexDAO.class);
+                for (IndexDataDTO dto : chunk) {
+                    dao.upsertIndexData(dto);
+                }
+                session.flushStatements();
+                session.commit();
+                return true;
+            } catch (Exception e) {
+                // 실패 앞부분은 이미 반영됐을 수 있음 - 행 단위 MERGE 로 덮어써도 결과는 같다
+                System.err.println("지수 배치 저장 실패(" + chunk.size() + "건) → 행 단위 저장으로 다시 저장: " + e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    private int writeRowByRow(List<IndexDataDTO> chunk) {
+        int failed = 0;
+        try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.SIMPLE, true)) {
+            IndexDAO dao = session.getMapper(IndexDAO.class);
+            for (IndexDataDTO dto : chunk) {
+                try {
+                    dao.upsertIndexData(dto);
+                } catch (Exception e) {
+                    failed++;
+                    System.err.println("지수 저장 실패 [" + dto.getIdxNm() + " " + dto.getBasDt() + "]: " + e.getMessage());
+                }
+            }
+        }
+        return failed;
+    }
+}
@@ -0,0 +1,43 @@
+package com.boot.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 지수 수집 1회 결과 (페이지/행 처리량)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IndexCollectReport {
+
+    private String idxNm;
+    private int pages;
+    private int rows;
+    private long elapsedMs;
+    private List<Integer> failedPages;
+    private IndexWriteStats write;
+    private int retries;
+
+    // 수집할 데이터가 없는 구간
+    public static IndexCollectReport empty(String idxNm) {
+        return new IndexCollectReport(idxNm, 0, 0, 0, new ArrayList<>(), null, 0);
+    }
+
+    public double getPagesPerSec() {
+        return elapsedMs == 0 ? pages : pages * 1000.0 / elapsedMs;
+    }
+
+    public double getRowsPerSec() {
+        return elapsedMs == 0 ? rows : rows * 1000.0 / elapsedMs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%s] %d pages, %d rows, %d ms (%.1f pages/s, %.1f rows/s), 재시도 %d, 실패 페이지 %s",
+                idxNm, pages, rows, elapsedMs, getPagesPerSec(), getRowsPerSec(), retries, failedPages)
+                + (write != null ? " / " + write : "");
+    }
+}
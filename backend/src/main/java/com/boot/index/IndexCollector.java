@@ -0,0 +1,317 @@
+package com.boot.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.boot.dto.IndexDataDTO;
+
+/**
+ * 지수 API 페이지 수집 파이프라인
+ *
+ *   [fetch x N 스레드] → rawQueue → [parse 1 스레드] → rowQueue → [write: 호출 스레드]
+ *
+ * - fetch : fetch-concurrency 개 페이지를 동시에 요청 (rate-limit-per-sec 로 API 호출 속도 제한)
+ *           실패 시 max-attempts 까지 지수 백오프(backoff-initial-ms → x2 → backoff-max-ms)로 재시도
+ * - parse : XML → IndexDataDTO
+ * - write : write-batch-size 행씩 모아 writer 호출 (DB 작업은 호출 스레드/트랜잭션에서 수행)
+ * 큐는 모두 queue-capacity 크기로 제한되어, DB 가 느리면 fetch 도 자연히 멈춘다.
+ * 실패한 페이지는 건너뛰고 리포트(failedPages)에 남긴다.
+ * 저장이 끝난 페이지 번호는 PageListener 로 알려 체크포인트로 남길 수 있다.
+ * active 가 false 가 되면(리스 상실 등) 새 페이지 요청과 저장을 멈추고 예외로 끝낸다.
+ */
+@Component
+public class IndexCollector {
+
+    @FunctionalInterface
+    public interface PageFetcher {
+        String fetch(int pageNo) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface PageParser {
+        List<IndexDataDTO> parse(String xml) throws Exception;
+    }
+
+    // 저장하지 못한 행 수를 반환 (0 이 아니면 그 묶음의 페이지는 실패로 남겨 다음 실행에서 다시 수집)
+    @FunctionalInterface
+    public interface RowWriter {
+        int write(List<IndexDataDTO> rows);
+    }
+
+    // 행이 모두 저장된 페이지 번호 (writer 호출 스레드에서 호출)
+    @FunctionalInterface
+    public interface PageListener {
+        void onSaved(List<Integer> pageNos);
+    }
+
+    private static final PageListener NO_LISTENER = pageNos -> { };
+    private static final BooleanSupplier ALWAYS_ACTIVE = () -> true;
+
+    private static final class Parsed {
+        final int pageNo;
+        final List<IndexDataDTO> rows;
+
+        Parsed(int pageNo, List<IndexDataDTO> rows) {
+            this.pageNo = pageNo;
+            this.rows = rows;
+        }
+    }
+
+    private static final class Page {
+        final int pageNo;
+        final String xml;
+        final boolean failed;
+
+        Page(int pageNo, String xml, boolean failed) {
+            this.pageNo = pageNo;
+            this.xml = xml;
+            this.failed = failed;
+        }
+    }
+
+    // rowQueue 종료 표시
+    private static final Parsed END = new Parsed(-1, Collections.emptyList());
+
+    private final int fetchConcurrency;
+    private final int queueCapacity;
+    private final int writeBatchSize;
+    private final SimpleRateLimiter rateLimiter;
+    private final int maxAttempts;
+    private final long backoffInitialMs;
+    private final long backoffMaxMs;
+
+    // 재시도 없음
+    public IndexCollector(int fetchConcurrency, double rateLimitPerSec, int queueCapacity, int writeBatchSize) {
+        this(fetchConcurrency, rateLimitPerSec, queueCapacity, writeBatchSize, 1, 0, 0);
+    }
+
+    @Autowired
+    public IndexCollector(
+            @Value("${market.api.fetch-concurrency:4}") int fetchConcurrency,
+            @Value("${market.api.rate-limit-per-sec:10}") double rateLimitPerSec,
+            @Value("${index.collect.queue-capacity:8}") int queueCapacity,
+            @Value("${index.collect.write-batch-size:500}") int writeBatchSize,
+            @Value("${index.collect.max-attempts:4}") int maxAttempts,
+            @Value("${index.collect.backoff-initial-ms:500}") long backoffInitialMs,
+            @Value("${index.collect.backoff-max-ms:8000}") long backoffMaxMs) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffInitialMs = Math.max(0, backoffInitialMs);
+        this.backoffMaxMs = Math.max(this.backoffInitialMs, backoffMaxMs);
+        this.fetchConcurrency = Math.max(1, fetchConcurrency);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.writeBatchSize = Math.max(1, writeBatchSize);
+        // 여러 수집 작업이 동시에 돌아도 API 호출 속도는 전체 합계 기준으로 제한
+        this.rateLimiter = new SimpleRateLimiter(rateLimitPerSec);
+    }
+
+    /**
+     * pageNos 의 페이지를 수집해 writer 로 저장한다.
+     * writer 예외는 그대로 던지며, 그때까지 저장된 행은 유지된다.
+     */
+    public IndexCollectReport collect(String idxNm, List<Integer> pageNos,
+                                      PageFetcher fetcher, PageParser parser, RowWriter writer) {
+        return collect(idxNm, pageNos, fetcher, parser, writer, NO_LISTENER, ALWAYS_ACTIVE);
+    }
+
+    public IndexCollectReport collect(String idxNm, List<Integer> pageNos,
+                                      PageFetcher fetcher, PageParser parser, RowWriter writer,
+                                      PageListener listener) {
+        return collect(idxNm, pageNos, fetcher, parser, writer, listener, ALWAYS_ACTIVE);
+    }
+
+    public IndexCollectReport collect(String idxNm, List<Integer> pageNos,
+                                      PageFetcher fetcher, PageParser parser, RowWriter writer,
+                                      PageListener listener, BooleanSupplier active) {
+        long startedAt = System.currentTimeMillis();
+        int pageCount = pageNos.size();
+
+        BlockingQueue<Page> rawQueue = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Parsed> rowQueue = new ArrayBlockingQueue<>(queueCapacity);
+        List<Integer> failedPages = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger rowCount = new AtomicInteger();
+        AtomicInteger retries = new AtomicInteger();
+        AtomicReference<Throwable> parseError = new AtomicReference<>();
+
+        ExecutorService fetchPool = Executors.newFixedThreadPool(Math.min(fetchConcurrency, Math.max(1, pageCount)),
+                namedThreads("index-fetch-" + idxNm));
+        ExecutorService parsePool = Executors.newSingleThreadExecutor(namedThreads("index-parse-" + idxNm));
+
+        try {
+            // 1) fetch
+            for (int pageNo : pageNos) {
+                fetchPool.execute(() -> {
+                    String xml = null;
+                    boolean failed = false;
+                    try {
+                        // 중단된 작업은 남은 페이지를 요청하지 않음 (writer 가 곧 예외로 끝냄)
+                        if (!active.getAsBoolean()) throw new IllegalStateException("작업 중단됨");
+                        xml = withRetry(idxNm + " page " + pageNo, retries, () -> {
+                            rateLimiter.acquire();
+                            return fetcher.fetch(pageNo);
+                        });
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        System.err.println("[" + idxNm + "] page " + pageNo + " 요청 실패: " + e.getMessage());
+                        failed = true;
+                    }
+                    try {
+                        rawQueue.put(new Page(pageNo, xml, failed));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            // 2) parse - 어떤 이유로 끝나든 END 를 넣어 writer 가 take() 에서 멈추지 않게 한다
+            parsePool.execute(() -> {
+                try {
+                    for (int i = 0; i < pageCount; i++) {
+                        Page page = rawQueue.take();
+                        if (page.failed) {
+                            failedPages.add(page.pageNo);
+                            continue;
+                        }
+                        try {
+                            rowQueue.put(new Parsed(page.pageNo, parser.parse(page.xml)));
+                        } catch (InterruptedException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            System.err.println("[" + idxNm + "] page " + page.pageNo + " 파싱 실패: " + e.getMessage());
+                            failedPages.add(page.pageNo);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Throwable t) {
+                    parseError.set(t);
+                    System.err.println("[" + idxNm + "] 파싱 스레드 비정상 종료: " + t);
+                } finally {
+                    try {
+                        rowQueue.put(END);
+                    } catch (InterruptedException e) {
+                        // writer 가 이미 끝나 풀을 종료하는 중
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+
+            // 3) write (호출 스레드)
+            List<IndexDataDTO> batch = new ArrayList<>(writeBatchSize);
+            List<Integer> batchPages = new ArrayList<>();
+            Parsed parsed;
+            while ((parsed = rowQueue.take()) != END) {
+                ensureActive(idxNm, active);
+                batch.addAll(parsed.rows);
+                batchPages.add(parsed.pageNo);
+                if (batch.size() >= writeBatchSize) {
+                    writeAndReport(writer, batch, batchPages, rowCount, failedPages, listener);
+                    batch = new ArrayList<>(writeBatchSize);
+                    batchPages = new ArrayList<>();
+                }
+            }
+            if (!batchPages.isEmpty()) {
+                ensureActive(idxNm, active);
+                writeAndReport(writer, batch, batchPages, rowCount, failedPages, listener);
+            }
+            // fetch 쪽에서 먼저 중단을 감지하면 남은 페이지는 실패로만 넘어오므로 끝에서 한 번 더 확인
+            ensureActive(idxNm, active);
+            if (parseError.get() != null) {
+                // 남은 페이지는 체크포인트에 DONE 으로 남지 않았으므로 다음 실행에서 다시 수집
+                throw new IllegalStateException("[" + idxNm + "] 지수 수집 중 파싱 스레드 오류: " + parseError.get(),
+                        parseError.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("지수 수집 중단: " + idxNm, e);
+        } finally {
+            fetchPool.shutdownNow();
+            parsePool.shutdownNow();
+            awaitQuietly(fetchPool);
+            awaitQuietly(parsePool);
+        }
+
+        List<Integer> failed = new ArrayList<>(failedPages);
+        Collections.sort(failed);
+        return new IndexCollectReport(idxNm, pageCount, rowCount.get(),
+                System.currentTimeMillis() - startedAt, failed, null, retries.get());
+    }
+
+    // 리스를 잃은 노드가 새 보유자와 나란히 저장하지 않도록 중단
+    private static void ensureActive(String idxNm, BooleanSupplier active) {
+        if (!active.getAsBoolean()) {
+            throw new IllegalStateException("[" + idxNm + "] 작업 리스 상실 - 수집 중단");
+        }
+    }
+
+    // 묶음 저장 후 행이 모두 저장됐으면 완료 페이지로, 하나라도 실패했으면 실패 페이지로
+    private static void writeAndReport(RowWriter writer, List<IndexDataDTO> batch, List<Integer> batchPages,
+                                       AtomicInteger rowCount, List<Integer> failedPages, PageListener listener) {
+        int failed = batch.isEmpty() ? 0 : writer.write(batch);
+        rowCount.addAndGet(batch.size() - failed);
+        if (failed == 0) {
+            listener.onSaved(batchPages);
+        } else {
+            failedPages.addAll(batchPages);
+        }
+    }
+
+    /**
+     * call 을 max-attempts 까지 지수 백오프(+최대 20% 지터)로 재시도. 마지막 예외를 그대로 던진다.
+     */
+    public <T> T withRetry(String label, Callable<T> call) throws Exception {
+        return withRetry(label, new AtomicInteger(), call);
+    }
+
+    private <T> T withRetry(String label, AtomicInteger retries, Callable<T> call) throws Exception {
+        long backoff = backoffInitialMs;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.call();
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) throw e;
+                retries.incrementAndGet();
+                long sleep = backoff + (backoff == 0 ? 0 : ThreadLocalRandom.current().nextLong(backoff / 5 + 1));
+                System.err.println("[" + label + "] 실패 (" + attempt + "/" + maxAttempts + "), "
+                        + sleep + "ms 후 재시도: " + e.getMessage());
+                Thread.sleep(sleep);
+                backoff = Math.min(backoff * 2, backoffMaxMs);
+            }
+        }
+    }
+
+    private static java.util.concurrent.ThreadFactory namedThreads(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    private static void awaitQuietly(ExecutorService pool) {
+        try {
+            pool.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.boot.index;
+
+/**
+ * 수집/조회 대상 지수 1개
+ *
+ * @param key       API 경로/캐시 키 (kospi, kosdaq, kospi200 ...)
+ * @param idxNm     공공데이터 API 지수명이자 STOCK_INDEX_DATA.IDX_NM
+ * @param startDate 최초 수집 시작일 (yyyyMMdd)
+ */
+public record IndexDefinition(String key, String idxNm, String startDate) {
+}
@@ -0,0 +1,9 @@
+package com.boot.index;
+
+// 지수 API 응답을 해석할 수 없을 때 (깨진 XML, 인증키 오류 등)
+public class IndexParseException extends RuntimeException {
+
+    public IndexParseException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
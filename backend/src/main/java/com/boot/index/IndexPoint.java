@@ -0,0 +1,5 @@
+package com.boot.index;
+
+// 차트용 지수 포인트 (기준일자 / 종가 / 등락률)
+public record IndexPoint(String basDt, double clpr, double fltRt) {
+}
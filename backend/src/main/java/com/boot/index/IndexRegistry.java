@@ -0,0 +1,65 @@
+package com.boot.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대상 지수 목록 (index.targets = key:지수명:시작일, 쉼표 구분)
+ *
+ * 저장/조회/캐시/스케줄은 모두 이 목록을 따라가므로, 지수를 추가할 때는 설정 한 줄만 늘리면 된다.
+ */
+@Component
+public class IndexRegistry {
+
+    private final Map<String, IndexDefinition> byKey = new LinkedHashMap<>();
+    private final Map<String, IndexDefinition> byName = new LinkedHashMap<>();
+
+    @Autowired
+    public IndexRegistry(@Value("${index.targets:kospi:코스피:19800104,kosdaq:코스닥:19960701}") List<String> targets) {
+        for (String target : targets) {
+            String[] parts = target.trim().split(":");
+            if (parts.length != 3 || IndexSeries.toInt(parts[2].trim()) < 0) {
+                throw new IllegalArgumentException("index.targets 형식 오류 (key:지수명:yyyyMMdd): " + target);
+            }
+            IndexDefinition def = new IndexDefinition(parts[0].trim(), parts[1].trim(), parts[2].trim());
+            byKey.put(def.key(), def);
+            byName.put(def.idxNm(), def);
+        }
+    }
+
+    public List<IndexDefinition> all() {
+        return Collections.unmodifiableList(new ArrayList<>(byKey.values()));
+    }
+
+    public List<String> names() {
+        return new ArrayList<>(byName.keySet());
+    }
+
+    public boolean supports(String key) {
+        return byKey.containsKey(key);
+    }
+
+    public Optional<IndexDefinition> byKey(String key) {
+        return Optional.ofNullable(byKey.get(key));
+    }
+
+    public IndexDefinition require(String key) {
+        IndexDefinition def = byKey.get(key);
+        if (def == null) throw new IllegalArgumentException("지원하지 않는 지수: " + key);
+        return def;
+    }
+
+    public IndexDefinition requireName(String idxNm) {
+        IndexDefinition def = byName.get(idxNm);
+        if (def == null) throw new IllegalArgumentException("지원하지 않는 지수명: " + idxNm);
+        return def;
+    }
+}
@@ -0,0 +1,214 @@
+package com.boot.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.boot.dto.IndexDataDTO;
+
+/**
+ * 지수 일별 히스토리의 메모리 사본 (기준일자 오름차순, primitive 컬럼 배열)
+ *
+ * DTO 리스트 대신 배열로 들고 있어 범위 검색은 이진 탐색,
+ * 다운샘플링은 배열 인덱스만으로 처리한다.
+ *
+ * 컬럼 배열은 여유 용량을 두고 뒤로만 늘어난다(append-only). merge() 는 배열을 공유한 채
+ * size 만 늘린 새 스냅샷을 반환하므로 하루 1행 증분에 전체 복사가 없다.
+ * 이전 스냅샷은 자기 size 까지만 읽으므로 그대로 유효하다.
+ * (예외: 당일 재수집으로 마지막 행 값이 바뀌면 같은 자리를 덮어써 이전 스냅샷에도 새 값이 보인다)
+ */
+public final class IndexSeries {
+
+    // 스냅샷들이 공유하는 컬럼 버퍼, length 는 가장 긴 스냅샷의 size
+    private static final class Columns {
+        final int[] basDt;    // yyyyMMdd
+        final int[] epochDay; // LTTB x 축 (휴장일 간격 반영)
+        final double[] clpr;
+        final double[] fltRt;
+        int length;
+
+        Columns(int capacity) {
+            basDt = new int[capacity];
+            epochDay = new int[capacity];
+            clpr = new double[capacity];
+            fltRt = new double[capacity];
+        }
+
+        Columns copy(int keep, int capacity) {
+            Columns c = new Columns(capacity);
+            System.arraycopy(basDt, 0, c.basDt, 0, keep);
+            System.arraycopy(epochDay, 0, c.epochDay, 0, keep);
+            System.arraycopy(clpr, 0, c.clpr, 0, keep);
+            System.arraycopy(fltRt, 0, c.fltRt, 0, keep);
+            c.length = keep;
+            return c;
+        }
+    }
+
+    private final Columns columns;
+    private final int[] basDt;
+    private final int[] epochDay;
+    private final double[] clpr;
+    private final double[] fltRt;
+    private final int size;
+    private final long modifiedAt; // 시리즈 생성(내용 변경) 시각 - Last-Modified
+
+    private IndexSeries(Columns columns, int size) {
+        this.columns = columns;
+        this.basDt = columns.basDt;
+        this.epochDay = columns.epochDay;
+        this.clpr = columns.clpr;
+        this.fltRt = columns.fltRt;
+        this.size = size;
+        this.modifiedAt = System.currentTimeMillis();
+    }
+
+    // 종가 없는 행/형식이 틀린 날짜는 제외, 같은 날짜가 중복되면 마지막 행 사용
+    public static IndexSeries from(List<IndexDataDTO> rows) {
+        Columns c = new Columns(capacityFor(rows.size()));
+        return new IndexSeries(c, append(c, 0, sorted(rows)));
+    }
+
+    /**
+     * 증분 조회 결과(newer)를 뒤에 이어붙인 새 시리즈.
+     * newer 첫 날짜 이상인 기존 포인트는 newer 값으로 대체된다. (당일 재수집)
+     * 이 시리즈가 최신 스냅샷이고 용량이 남아 있으면 배열을 공유한 채 이어 쓴다.
+     */
+    public IndexSeries merge(List<IndexDataDTO> newer) {
+        List<IndexDataDTO> tail = sorted(newer);
+        int first = firstValidDate(tail);
+        if (first < 0) return this;
+
+        int keep = lowerBound(first);
+        Columns target = columns;
+        synchronized (columns) {
+            boolean appendable = columns.length == size
+                    && keep >= size - 1
+                    && size + tail.size() <= columns.basDt.length;
+            if (!appendable) {
+                target = columns.copy(keep, capacityFor(keep + tail.size()));
+            }
+            int newSize = append(target, keep, tail);
+            target.length = newSize;
+            return new IndexSeries(target, newSize);
+        }
+    }
+
+    // 날짜순 rows 를 c 의 at 위치부터 기록, 기록 후 size 반환
+    private static int append(Columns c, int at, List<IndexDataDTO> rows) {
+        int size = at;
+        for (IndexDataDTO dto : rows) {
+            int date = toInt(dto.getBasDt());
+            if (date < 0 || dto.getClpr() == null) continue;
+
+            int i = (size > at && c.basDt[size - 1] == date) ? size - 1 : size++;
+            c.basDt[i] = date;
+            c.epochDay[i] = (int) LocalDate.of(date / 10000, date / 100 % 100, date % 100).toEpochDay();
+            c.clpr[i] = dto.getClpr();
+            c.fltRt[i] = dto.getFltRt() == null ? 0 : dto.getFltRt();
+        }
+        return size;
+    }
+
+    private static List<IndexDataDTO> sorted(List<IndexDataDTO> rows) {
+        List<IndexDataDTO> sorted = new ArrayList<>(rows);
+        sorted.sort((a, b) -> String.valueOf(a.getBasDt()).compareTo(String.valueOf(b.getBasDt())));
+        return sorted;
+    }
+
+    private static int firstValidDate(List<IndexDataDTO> sortedRows) {
+        for (IndexDataDTO dto : sortedRows) {
+            int date = toInt(dto.getBasDt());
+            if (date >= 0 && dto.getClpr() != null) return date;
+        }
+        return -1;
+    }
+
+    // 연 250 영업일 기준 1년치 이상 여유
+    private static int capacityFor(int n) {
+        return n + Math.max(256, n >> 3);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int basDtAt(int i) {
+        return basDt[i];
+    }
+
+    public int epochDayAt(int i) {
+        return epochDay[i];
+    }
+
+    public double clprAt(int i) {
+        return clpr[i];
+    }
+
+    // basDt >= date 인 첫 인덱스
+    public int lowerBound(int date) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (basDt[mid] < date) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * [from, to] 구간(yyyyMMdd, 양끝 포함)을 최대 maxPoints 개로 LTTB 다운샘플링.
+     * 구간이 maxPoints 이하이면 그대로 반환한다.
+     */
+    public List<IndexPoint> range(int from, int to, int maxPoints) {
+        int start = lowerBound(from);
+        int end = lowerBound(to == Integer.MAX_VALUE ? to : to + 1);
+        if (start >= end) return List.of();
+
+        int[] picked = Lttb.select(epochDay, clpr, start, end, maxPoints);
+        List<IndexPoint> points = new ArrayList<>(picked.length);
+        for (int i : picked) {
+            points.add(new IndexPoint(Integer.toString(basDt[i]), clpr[i], fltRt[i]));
+        }
+        return points;
+    }
+
+    // [from, to] 구간 원본 포인트 수
+    public int count(int from, int to) {
+        return Math.max(0, lowerBound(to == Integer.MAX_VALUE ? to : to + 1) - lowerBound(from));
+    }
+
+    public String firstBasDt() {
+        return size == 0 ? null : Integer.toString(basDt[0]);
+    }
+
+    public String lastBasDt() {
+        return size == 0 ? null : Integer.toString(basDt[size - 1]);
+    }
+
+    public long getModifiedAt() {
+        return modifiedAt;
+    }
+
+    /**
+     * 강한 ETag 값: 최신 기준일자 + 행 수 + 최신 종가
+     * (하루 1행씩 늘어나므로 앞의 둘로 충분하고, 당일 재수집으로 값만 바뀐 경우는 종가로 구분)
+     */
+    public String etag() {
+        if (size == 0) return "empty";
+        int last = size - 1;
+        return basDt[last] + "-" + size + "-" + Long.toHexString(Double.doubleToLongBits(clpr[last]));
+    }
+
+    // "yyyyMMdd" → int, 형식이 아니면 -1
+    public static int toInt(String yyyyMMdd) {
+        if (yyyyMMdd == null || yyyyMMdd.length() != 8) return -1;
+        int v = 0;
+        for (int i = 0; i < 8; i++) {
+            char c = yyyyMMdd.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            v = v * 10 + (c - '0');
+        }
+        return v;
+    }
+}
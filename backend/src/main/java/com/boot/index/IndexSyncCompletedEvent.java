@@ -0,0 +1,7 @@
+package com.boot.index;
+
+import java.util.List;
+
+// 백그라운드 지수 동기화 종료 (성공/실패 지수 목록 포함)
+public record IndexSyncCompletedEvent(List<String> synced, List<String> failed) {
+}
@@ -0,0 +1,32 @@
+package com.boot.index;
+
+import lombok.Data;
+
+// 지수 저장 통계 (수집 1회 단위로 누적)
+@Data
+public class IndexWriteStats {
+
+    private int rows;
+    private int batches;
+    private int fallbackBatches;
+    private int failedRows;
+    private long writeMs;
+
+    void add(int rows, long elapsedMs, boolean fallback, int failedRows) {
+        this.rows += rows;
+        this.batches++;
+        if (fallback) this.fallbackBatches++;
+        this.failedRows += failedRows;
+        this.writeMs += elapsedMs;
+    }
+
+    public double getRowsPerSec() {
+        return writeMs == 0 ? rows : rows * 1000.0 / writeMs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("저장 %d rows / %d batches, %d ms (%.1f rows/s), 폴백 %d batches, 실패 %d rows",
+                rows, batches, writeMs, getRowsPerSec(), fallbackBatches, failedRows);
+    }
+}
@@ -0,0 +1,171 @@
+package com.boot.index;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.springframework.stereotype.Component;
+
+import com.boot.dto.IndexDataDTO;
+
+/**
+ * 지수 API(getStockMarketIndex) XML 스트리밍 파서 (StAX)
+ *
+ * DOM 트리를 만들지 않고 한 번 훑으면서 <item> 을 바로 IndexDataDTO 로 매핑한다.
+ * - 숫자 형식이 잘못된 필드는 null 로 두고 fieldErrors 로 집계
+ * - 응답 자체가 깨졌거나 API 오류 응답이면 IndexParseException
+ */
+@Component
+public class IndexXmlParser {
+
+    private final XMLInputFactory factory;
+
+    private final AtomicLong parsedItems = new AtomicLong();
+    private final AtomicLong fieldErrors = new AtomicLong();
+    private final AtomicLong documentErrors = new AtomicLong();
+
+    public IndexXmlParser() {
+        factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+
+    /**
+     * @return item 목록 (첫 번째 항목에 totalCount 설정, 기존 parseXml 과 동일)
+     */
+    public List<IndexDataDTO> parse(String xml) {
+        List<IndexDataDTO> items = new ArrayList<>();
+        Integer totalCount = null;
+        String resultCode = null;
+        String errorMessage = null;
+
+        XMLStreamReader r = null;
+        try {
+            r = factory.createXMLStreamReader(new StringReader(xml));
+            IndexDataDTO item = null;
+
+            while (r.hasNext()) {
+                int event = r.next();
+
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = r.getLocalName();
+
+                    if (item != null) {
+                        readField(item, name, r.getElementText());
+                        continue;
+                    }
+                    switch (name) {
+                        case "item":
+                            item = new IndexDataDTO();
+                            break;
+                        case "totalCount":
+                            totalCount = toInt(r.getElementText());
+                            break;
+                        case "resultCode":
+                            resultCode = r.getElementText().trim();
+                            break;
+                        // 인증키 오류 등 (OpenAPI_ServiceResponse/cmmMsgHeader)
+                        case "returnAuthMsg":
+                        case "errMsg":
+                            errorMessage = r.getElementText().trim();
+                            break;
+                        default:
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && item != null
+                        && "item".equals(r.getLocalName())) {
+                    items.add(item);
+                    item = null;
+                }
+            }
+        } catch (XMLStreamException e) {
+            documentErrors.incrementAndGet();
+            throw new IndexParseException("지수 XML 파싱 실패: " + e.getMessage(), e);
+        } finally {
+            closeQuietly(r);
+        }
+
+        if (errorMessage != null || (resultCode != null && !"00".equals(resultCode))) {
+            documentErrors.incrementAndGet();
+            throw new IndexParseException("지수 API 오류 응답: "
+                    + (errorMessage != null ? errorMessage : "resultCode=" + resultCode), null);
+        }
+
+        if (!items.isEmpty() && totalCount != null) {
+            items.get(0).setTotalCount(totalCount);
+        }
+        parsedItems.addAndGet(items.size());
+        return items;
+    }
+
+    private void readField(IndexDataDTO dto, String name, String text) {
+        switch (name) {
+            case "idxNm": dto.setIdxNm(text); break;
+            case "basDt": dto.setBasDt(text); break;
+            case "clpr": dto.setClpr(toDouble(text)); break;
+            case "vs": dto.setVs(toDouble(text)); break;
+            case "fltRt": dto.setFltRt(toDouble(text)); break;
+            case "mkp": dto.setMkp(toDouble(text)); break;
+            case "hipr": dto.setHipr(toDouble(text)); break;
+            case "lopr": dto.setLopr(toDouble(text)); break;
+            case "trqu": dto.setTrqu(toLong(text)); break;
+            case "trPrc": dto.setTrPrc(toLong(text)); break;
+            case "lstgMrktTotAmt": dto.setLstgMrktTotAmt(toLong(text)); break;
+            default:
+                // 사용하지 않는 필드 (idxCsf, epyItmsCnt, yrWRcrdHgst ...)
+        }
+    }
+
+    private Double toDouble(String text) {
+        String s = text.trim();
+        if (s.isEmpty()) return null;
+        try {
+            return Double.parseDouble(s);
+        } catch (NumberFormatException e) {
+            fieldErrors.incrementAndGet();
+            return null;
+        }
+    }
+
+    private Long toLong(String text) {
+        String s = text.trim();
+        if (s.isEmpty()) return null;
+        try {
+            return Long.parseLong(s);
+        } catch (NumberFormatException e) {
+            fieldErrors.incrementAndGet();
+            return null;
+        }
+    }
+
+    private Integer toInt(String text) {
+        Long v = toLong(text);
+        return v == null ? null : v.intValue();
+    }
+
+    private static void closeQuietly(XMLStreamReader r) {
+        if (r == null) return;
+        try {
+            r.close();
+        } catch (XMLStreamException ignored) {
+        }
+    }
+
+    public long getParsedItems() {
+        return parsedItems.get();
+    }
+
+    public long getFieldErrors() {
+        return fieldErrors.get();
+    }
+
+    public long getDocumentErrors() {
+        return documentErrors.get();
+    }
+}
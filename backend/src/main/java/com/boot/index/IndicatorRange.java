@@ -0,0 +1,41 @@
+package com.boot.index;
+
+import lombok.Getter;
+
+// 지표 조회 결과 (컬럼 배열, 워밍업 구간은 null)
+@Getter
+public class IndicatorRange {
+
+    private final int totalPoints;
+    final String[] basDt;
+    final double[] close;
+    final Double[] ma5;
+    final Double[] ma20;
+    final Double[] ma60;
+    final Double[] ma120;
+    final Double[] ema12;
+    final Double[] ema26;
+    final Double[] rsi14;
+    final Double[] bbUpper;
+    final Double[] bbLower;
+
+    IndicatorRange(int n, int totalPoints) {
+        this.totalPoints = totalPoints;
+        basDt = new String[n];
+        close = new double[n];
+        ma5 = new Double[n];
+        ma20 = new Double[n];
+        ma60 = new Double[n];
+        ma120 = new Double[n];
+        ema12 = new Double[n];
+        ema26 = new Double[n];
+        rsi14 = new Double[n];
+        bbUpper = new Double[n];
+        bbLower = new Double[n];
+    }
+
+    // 볼린저 중심선 = MA20
+    public Double[] getBbMiddle() {
+        return ma20;
+    }
+}
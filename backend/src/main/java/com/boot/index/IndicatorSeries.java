@@ -0,0 +1,224 @@
+package com.boot.index;
+
+import java.util.Arrays;
+
+/**
+ * 지수 기술적 지표 (일별 종가 기준, primitive 배열)
+ *
+ * - MA 5/20/60/120, EMA 12/26, RSI 14 (Wilder), 볼린저 밴드 (20일, ±2σ)
+ * - append 는 누적 합/지수평활 상태만 갱신하므로 하루 1행당 O(1)
+ * - 같은 날짜가 다시 들어오면(당일 재수집) 직전 상태로 되돌린 뒤 다시 계산
+ * - 워밍업 구간(기간 미만)은 NaN
+ */
+public final class IndicatorSeries {
+
+    public static final int[] MA_PERIODS = {5, 20, 60, 120};
+    public static final int EMA_SHORT = 12;
+    public static final int EMA_LONG = 26;
+    public static final int RSI_PERIOD = 14;
+    public static final int BB_PERIOD = 20;
+    public static final double BB_K = 2.0;
+
+    private int size;
+    private int[] basDt;
+    private int[] epochDay;
+    private double[] close;
+    private final double[][] ma = new double[MA_PERIODS.length][];
+    private double[] emaShort;
+    private double[] emaLong;
+    private double[] rsi;
+    private double[] bbUpper;
+    private double[] bbLower;
+
+    // 누적 상태 (마지막 행 반영 후)
+    private State state = new State();
+    // 마지막 행 반영 전 상태 (같은 날짜 교체용)
+    private State prevState;
+
+    private static final class State {
+        final double[] maSum = new double[MA_PERIODS.length];
+        double sumSq;       // BB_PERIOD 구간 제곱합
+        double emaShort = Double.NaN;
+        double emaLong = Double.NaN;
+        double avgGain;
+        double avgLoss;
+
+        State copy() {
+            State s = new State();
+            System.arraycopy(maSum, 0, s.maSum, 0, maSum.length);
+            s.sumSq = sumSq;
+            s.emaShort = emaShort;
+            s.emaLong = emaLong;
+            s.avgGain = avgGain;
+            s.avgLoss = avgLoss;
+            return s;
+        }
+    }
+
+    public IndicatorSeries(int initialCapacity) {
+        int cap = Math.max(16, initialCapacity);
+        basDt = new int[cap];
+        epochDay = new int[cap];
+        close = new double[cap];
+        for (int k = 0; k < ma.length; k++) ma[k] = new double[cap];
+        emaShort = new double[cap];
+        emaLong = new double[cap];
+        rsi = new double[cap];
+        bbUpper = new double[cap];
+        bbLower = new double[cap];
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    // 마지막 기준일자 (없으면 -1)
+    public synchronized int lastBasDt() {
+        return size == 0 ? -1 : basDt[size - 1];
+    }
+
+    /**
+     * 날짜 오름차순으로 한 행 추가. date 가 마지막 날짜와 같으면 마지막 행을 교체한다.
+     * 마지막 날짜보다 이전 날짜는 무시하고 false.
+     */
+    public synchronized boolean append(int date, int day, double value) {
+        if (size > 0 && date < basDt[size - 1]) return false;
+        if (size > 0 && date == basDt[size - 1]) {
+            size--;
+            state = prevState;
+            prevState = null;
+        }
+        ensureCapacity(size + 1);
+
+        int i = size;
+        prevState = state.copy();
+        basDt[i] = date;
+        epochDay[i] = day;
+        close[i] = value;
+
+        // 단순 이동평균 (구간 합)
+        for (int k = 0; k < MA_PERIODS.length; k++) {
+            int p = MA_PERIODS[k];
+            state.maSum[k] += value;
+            if (i >= p) state.maSum[k] -= close[i - p];
+            ma[k][i] = i + 1 >= p ? state.maSum[k] / p : Double.NaN;
+        }
+
+        // 볼린저 (20일 평균 ± 2σ, 모표준편차)
+        state.sumSq += value * value;
+        if (i >= BB_PERIOD) state.sumSq -= close[i - BB_PERIOD] * close[i - BB_PERIOD];
+        int bbIdx = maIndex(BB_PERIOD);
+        if (i + 1 >= BB_PERIOD) {
+            double mean = state.maSum[bbIdx] / BB_PERIOD;
+            double sd = Math.sqrt(Math.max(0, state.sumSq / BB_PERIOD - mean * mean));
+            bbUpper[i] = mean + BB_K * sd;
+            bbLower[i] = mean - BB_K * sd;
+        } else {
+            bbUpper[i] = Double.NaN;
+            bbLower[i] = Double.NaN;
+        }
+
+        // EMA (첫 값은 기간 SMA 로 시작)
+        state.emaShort = ema(state.emaShort, i, EMA_SHORT, value);
+        state.emaLong = ema(state.emaLong, i, EMA_LONG, value);
+        emaShort[i] = state.emaShort;
+        emaLong[i] = state.emaLong;
+
+        // RSI (Wilder 평활)
+        rsi[i] = Double.NaN;
+        if (i > 0) {
+            double change = value - close[i - 1];
+            double gain = Math.max(change, 0);
+            double loss = Math.max(-change, 0);
+            if (i <= RSI_PERIOD) {
+                state.avgGain += gain / RSI_PERIOD;
+                state.avgLoss += loss / RSI_PERIOD;
+            } else {
+                state.avgGain = (state.avgGain * (RSI_PERIOD - 1) + gain) / RSI_PERIOD;
+                state.avgLoss = (state.avgLoss * (RSI_PERIOD - 1) + loss) / RSI_PERIOD;
+            }
+            if (i >= RSI_PERIOD) {
+                rsi[i] = state.avgLoss == 0 ? 100 : 100 - 100 / (1 + state.avgGain / state.avgLoss);
+            }
+        }
+
+        size++;
+        return true;
+    }
+
+    // EMA: 기간 미만은 NaN, 기간째 행에서 SMA 로 시작
+    private double ema(double prev, int i, int period, double value) {
+        if (i + 1 < period) return Double.NaN;
+        if (i + 1 == period) {
+            double sum = 0;
+            for (int j = i - period + 1; j <= i; j++) sum += close[j];
+            return sum / period;
+        }
+        double alpha = 2.0 / (period + 1);
+        return prev + alpha * (value - prev);
+    }
+
+    private static int maIndex(int period) {
+        for (int k = 0; k < MA_PERIODS.length; k++) {
+            if (MA_PERIODS[k] == period) return k;
+        }
+        throw new IllegalStateException("MA_PERIODS 에 " + period + " 이 없습니다.");
+    }
+
+    private void ensureCapacity(int min) {
+        if (min <= basDt.length) return;
+        int cap = Math.max(min, basDt.length + (basDt.length >> 1));
+        basDt = Arrays.copyOf(basDt, cap);
+        epochDay = Arrays.copyOf(epochDay, cap);
+        close = Arrays.copyOf(close, cap);
+        for (int k = 0; k < ma.length; k++) ma[k] = Arrays.copyOf(ma[k], cap);
+        emaShort = Arrays.copyOf(emaShort, cap);
+        emaLong = Arrays.copyOf(emaLong, cap);
+        rsi = Arrays.copyOf(rsi, cap);
+        bbUpper = Arrays.copyOf(bbUpper, cap);
+        bbLower = Arrays.copyOf(bbLower, cap);
+    }
+
+    // basDt >= date 인 첫 인덱스
+    private int lowerBound(int date) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (basDt[mid] < date) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * [from, to] 구간 지표를 컬럼 배열로 반환. 구간이 maxPoints 를 넘으면
+     * 종가 기준 LTTB 로 고른 날짜의 값만 담는다. (/history 다운샘플링과 같은 날짜)
+     */
+    public synchronized IndicatorRange range(int from, int to, int maxPoints) {
+        int start = lowerBound(from);
+        int end = lowerBound(to == Integer.MAX_VALUE ? to : to + 1);
+        int[] picked = start >= end ? new int[0] : Lttb.select(epochDay, close, start, end, maxPoints);
+
+        int n = picked.length;
+        IndicatorRange r = new IndicatorRange(n, Math.max(0, end - start));
+        for (int j = 0; j < n; j++) {
+            int i = picked[j];
+            r.basDt[j] = Integer.toString(basDt[i]);
+            r.close[j] = close[i];
+            r.ma5[j] = nullIfNaN(ma[0][i]);
+            r.ma20[j] = nullIfNaN(ma[1][i]);
+            r.ma60[j] = nullIfNaN(ma[2][i]);
+            r.ma120[j] = nullIfNaN(ma[3][i]);
+            r.ema12[j] = nullIfNaN(emaShort[i]);
+            r.ema26[j] = nullIfNaN(emaLong[i]);
+            r.rsi14[j] = nullIfNaN(rsi[i]);
+            r.bbUpper[j] = nullIfNaN(bbUpper[i]);
+            r.bbLower[j] = nullIfNaN(bbLower[i]);
+        }
+        return r;
+    }
+
+    private static Double nullIfNaN(double v) {
+        return Double.isNaN(v) ? null : v;
+    }
+}
@@ -0,0 +1,75 @@
+package com.boot.index;
+
+/**
+ * Largest-Triangle-Three-Buckets 다운샘플링
+ *
+ * 첫/마지막 점은 항상 유지하고, 나머지를 (threshold - 2) 개 버킷으로 나눠
+ * 버킷마다 "이전 선택점 - 후보 - 다음 버킷 평균점" 삼각형 넓이가 가장 큰 점을 고른다.
+ * 급등락 같은 시각적 특징이 단순 간격 추출보다 잘 보존된다.
+ */
+final class Lttb {
+
+    private Lttb() {
+    }
+
+    /**
+     * x/y 배열의 [start, end) 구간에서 threshold 개 이하의 점 인덱스를 고른다. (오름차순)
+     * threshold 는 3 이상이어야 한다.
+     */
+    static int[] select(int[] x, double[] y, int start, int end, int threshold) {
+        if (threshold < 3) throw new IllegalArgumentException("threshold must be >= 3: " + threshold);
+        int n = end - start;
+        if (n <= 0) return new int[0];
+        if (threshold >= n) {
+            int[] all = new int[n];
+            for (int i = 0; i < n; i++) all[i] = start + i;
+            return all;
+        }
+
+        int[] picked = new int[threshold];
+        int p = 0;
+        picked[p++] = start;
+
+        double every = (double) (n - 2) / (threshold - 2);
+        int a = start;
+
+        for (int i = 0; i < threshold - 2; i++) {
+            // 다음 버킷 평균점
+            int avgStart = start + (int) Math.floor((i + 1) * every) + 1;
+            int avgEnd = Math.min(start + (int) Math.floor((i + 2) * every) + 1, end);
+            double avgX = 0, avgY = 0;
+            int avgLen = avgEnd - avgStart;
+            for (int j = avgStart; j < avgEnd; j++) {
+                avgX += x[j];
+                avgY += y[j];
+            }
+            if (avgLen > 0) {
+                avgX /= avgLen;
+                avgY /= avgLen;
+            } else {
+                avgX = x[end - 1];
+                avgY = y[end - 1];
+            }
+
+            // 현재 버킷
+            int rangeStart = start + (int) Math.floor(i * every) + 1;
+            int rangeEnd = start + (int) Math.floor((i + 1) * every) + 1;
+
+            double ax = x[a], ay = y[a];
+            double maxArea = -1;
+            int next = rangeStart;
+            for (int j = rangeStart; j < rangeEnd; j++) {
+                double area = Math.abs((ax - avgX) * (y[j] - ay) - (ax - x[j]) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = j;
+                }
+            }
+            picked[p++] = next;
+            a = next;
+        }
+
+        picked[p] = end - 1;
+        return picked;
+    }
+}
@@ -0,0 +1,32 @@
+package com.boot.index;
+
+/**
+ * 초당 요청 수 제한 (요청 간 최소 간격 방식)
+ * 여러 수집 스레드가 공유하며, acquire() 는 다음 허용 시각까지 대기한다.
+ */
+public class SimpleRateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeAt;
+
+    // permitsPerSecond <= 0 이면 제한 없음
+    public SimpleRateLimiter(double permitsPerSecond) {
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (1_000_000_000L / permitsPerSecond) : 0;
+        this.nextFreeAt = System.nanoTime();
+    }
+
+    public void acquire() throws InterruptedException {
+        if (intervalNanos == 0) return;
+
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextFreeAt);
+            nextFreeAt = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.boot.realtime;
+
+import java.util.Date;
+
+import com.boot.dto.StockBarDTO;
+
+/**
+ * 집계 중인(열린) 봉 - StockBarAggregator 내부에서만 갱신
+ */
+public class OhlcvBar {
+
+    final String code;
+    final int intervalMin;
+    final long start;
+    final long end;
+
+    long open;
+    long high;
+    long low;
+    long close;
+    long volume;
+    int tickCount;
+
+    OhlcvBar(String code, int intervalMin, long start, StockTick first) {
+        this.code = code;
+        this.intervalMin = intervalMin;
+        this.start = start;
+        this.end = start + intervalMin * 60_000L;
+        this.open = first.price();
+        this.high = first.price();
+        this.low = first.price();
+        this.close = first.price();
+        this.volume = first.volume();
+        this.tickCount = 1;
+    }
+
+    void update(StockTick tick) {
+        long price = tick.price();
+        if (price > high) high = price;
+        if (price < low) low = price;
+        close = price;
+        volume += tick.volume();
+        tickCount++;
+    }
+
+    StockBarDTO toDTO() {
+        return new StockBarDTO(code, intervalMin, new Date(start), open, high, low, close, volume, tickCount);
+    }
+}
@@ -0,0 +1,169 @@
+package com.boot.realtime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.boot.dto.StockBarDTO;
+
+/**
+ * 실시간 틱 → 분봉(OHLCV) 집계
+ *
+ * 종목별로 간격(realtime.bar.intervals, 기본 1분/5분)마다 열린 봉 하나씩만 메모리에 들고,
+ * 틱 시각이 다음 구간으로 넘어가거나 closeExpired() 에서 구간 종료 시각이 지나면 봉을 닫아
+ * 저장 대기열에 넣는다. (DB 저장은 StockBarService 가 주기적으로 묶어서 처리)
+ * 간격마다 마지막으로 닫은 봉의 시작 시각을 기억해, 그 구간 이하의 늦은 틱은 버린다.
+ * (닫힌 구간에 봉을 다시 열면 같은 시각의 봉이 두 번 저장됨)
+ */
+@Component
+public class StockBarAggregator implements StockTickListener {
+
+    private final int[] intervals;
+    private final int maxPending;
+
+    // 종목코드 → intervals 순서대로 열린 봉 / 마지막으로 닫은 봉 시작 시각
+    private final Map<String, CodeBars> openBars = new ConcurrentHashMap<>();
+
+    private final Queue<StockBarDTO> closedBars = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong lateTickCount = new AtomicLong();
+
+    public StockBarAggregator(
+            @Value("${realtime.bar.intervals:1,5}") int[] intervals,
+            @Value("${realtime.bar.max-pending:10000}") int maxPending) {
+        this.intervals = intervals;
+        this.maxPending = maxPending;
+    }
+
+    @Override
+    public void onTick(StockTick tick) {
+        CodeBars bars = openBars.computeIfAbsent(tick.code(), code -> new CodeBars(intervals.length));
+
+        synchronized (bars) {
+            for (int i = 0; i < intervals.length; i++) {
+                long size = intervals[i] * 60_000L;
+                long start = tick.timestamp() - (tick.timestamp() % size);
+                OhlcvBar bar = bars.open[i];
+
+                if (start <= bars.closedStart[i]) {
+                    // 이미 닫힌 구간의 늦은 틱은 버린다
+                    lateTickCount.incrementAndGet();
+                } else if (bar == null) {
+                    bars.open[i] = new OhlcvBar(tick.code(), intervals[i], start, tick);
+                } else if (start == bar.start) {
+                    bar.update(tick);
+                } else if (start > bar.start) {
+                    close(bars, i);
+                    bars.open[i] = new OhlcvBar(tick.code(), intervals[i], start, tick);
+                } else {
+                    lateTickCount.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * 구간 종료 시각(+ graceMillis)이 지난 봉을 닫는다.
+     * 거래가 끊긴 종목도 시간 경계에서 봉이 확정되도록 주기적으로 호출.
+     */
+    public void closeExpired(long now, long graceMillis) {
+        for (CodeBars bars : openBars.values()) {
+            synchronized (bars) {
+                for (int i = 0; i < bars.open.length; i++) {
+                    OhlcvBar bar = bars.open[i];
+                    if (bar != null && bar.end + graceMillis <= now) {
+                        close(bars, i);
+                    }
+                }
+            }
+        }
+    }
+
+    // 닫힌 봉을 최대 max 개 꺼낸다 (오래된 순)
+    public List<StockBarDTO> drainClosed(int max) {
+        List<StockBarDTO> drained = new ArrayList<>(Math.min(max, pendingCount.get()));
+        StockBarDTO bar;
+        while (drained.size() < max && (bar = closedBars.poll()) != null) {
+            pendingCount.decrementAndGet();
+            drained.add(bar);
+        }
+        return drained;
+    }
+
+    // 저장 실패분 재등록 (대기열이 가득 차면 버림)
+    public void requeue(List<StockBarDTO> bars) {
+        bars.forEach(this::enqueue);
+    }
+
+    // 현재 집계 중인 봉 (없으면 null)
+    public StockBarDTO getOpenBar(String code, int intervalMin) {
+        CodeBars bars = openBars.get(code);
+        if (bars == null) return null;
+
+        synchronized (bars) {
+            for (int i = 0; i < intervals.length; i++) {
+                if (intervals[i] == intervalMin && bars.open[i] != null) {
+                    return bars.open[i].toDTO();
+                }
+            }
+        }
+        return null;
+    }
+
+    public boolean supportsInterval(int intervalMin) {
+        for (int interval : intervals) {
+            if (interval == intervalMin) return true;
+        }
+        return false;
+    }
+
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getLateTickCount() {
+        return lateTickCount.get();
+    }
+
+    // bars 잠금 안에서 호출
+    private void close(CodeBars bars, int i) {
+        OhlcvBar bar = bars.open[i];
+        bars.closedStart[i] = bar.start;
+        bars.open[i] = null;
+        enqueue(bar.toDTO());
+    }
+
+    private void enqueue(StockBarDTO bar) {
+        if (pendingCount.incrementAndGet() > maxPending) {
+            pendingCount.decrementAndGet();
+            droppedCount.incrementAndGet();
+            return;
+        }
+        closedBars.offer(bar);
+    }
+
+    private static final class CodeBars {
+        final OhlcvBar[] open;
+        final long[] closedStart;
+
+        CodeBars(int size) {
+            open = new OhlcvBar[size];
+            closedStart = new long[size];
+            Arrays.fill(closedStart, Long.MIN_VALUE);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.boot.realtime;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * STOCK_INFO 가격 지연 저장(write-behind) 버퍼
+ *
+ * 종목별 마지막 틱만 남기므로(같은 종목의 틱 여러 개 → 1건) 주기적으로 drain 해서
+ * 한 번의 배치 UPDATE 로 반영한다. 저장은 StockPriceFlushService 담당.
+ */
+@Component
+public class StockPriceWriteBehind implements StockTickListener {
+
+    private final Map<String, StockTick> dirty = new ConcurrentHashMap<>();
+
+    // 현재 대기 중인 변경 중 가장 먼저 들어온 시각 (0 = 대기 없음)
+    private final AtomicLong oldestPendingAt = new AtomicLong();
+
+    private final AtomicLong receivedTicks = new AtomicLong();
+
+    @Override
+    public void onTick(StockTick tick) {
+        receivedTicks.incrementAndGet();
+        // 시각을 먼저 남긴다 (put 뒤에 남기면 그 사이 drain 이 시각 없이 틱만 가져갈 수 있음)
+        oldestPendingAt.compareAndSet(0, System.currentTimeMillis());
+        dirty.put(tick.code(), tick);
+    }
+
+    /**
+     * 대기 중인 종목별 최신 틱을 모두 꺼낸다.
+     * 꺼내는 도중 들어온 틱은 다음 drain 에 포함된다.
+     *
+     * @return 꺼낸 틱과, 그 중 가장 오래 기다린 변경의 시각(pendingSince, 알 수 없으면 0)
+     */
+    public Drained drain() {
+        long since = oldestPendingAt.getAndSet(0);
+        List<StockTick> ticks = new ArrayList<>(dirty.size());
+
+        Iterator<String> it = dirty.keySet().iterator();
+        while (it.hasNext()) {
+            StockTick tick = dirty.remove(it.next());
+            if (tick != null) ticks.add(tick);
+        }
+        return new Drained(ticks, since);
+    }
+
+    // 저장 실패분 되돌리기 (그 사이 더 새로운 틱이 들어왔으면 그쪽을 유지)
+    public void restore(Drained drained) {
+        for (StockTick tick : drained.ticks()) {
+            dirty.putIfAbsent(tick.code(), tick);
+        }
+        if (drained.pendingSince() > 0) {
+            oldestPendingAt.accumulateAndGet(drained.pendingSince(),
+                    (cur, old) -> cur == 0 ? old : Math.min(cur, old));
+        }
+    }
+
+    public int getPendingCount() {
+        return dirty.size();
+    }
+
+    public long getReceivedTicks() {
+        return receivedTicks.get();
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("pendingCodes", dirty.size());
+        map.put("receivedTicks", receivedTicks.get());
+        long since = oldestPendingAt.get();
+        map.put("oldestPendingMs", since == 0 ? 0 : System.currentTimeMillis() - since);
+        return map;
+    }
+
+    public record Drained(List<StockTick> ticks, long pendingSince) {
+    }
+}
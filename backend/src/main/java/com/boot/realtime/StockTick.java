@@ -0,0 +1,36 @@
+package com.boot.realtime;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * 실시간 체결 틱 (수신 → 가공 → 저장 → 브로드캐스트 전 구간에서 그대로 사용)
+ *
+ * - seq            : 종목별 일련번호 (StockTickBuffers 에서 부여, 재접속 시 이어받기용)
+ * - epoch          : seq 를 매긴 버퍼의 스트림 id (서버 재시작/다른 노드면 달라짐, 0 = 없음)
+ * - price / change : 원 단위 정수
+ * - changeRateBp   : 등락률 x 100 (예: -0.69% → -69)
+ * - volume         : 체결 거래량 (없으면 0)
+ * - timestamp      : 수신 시각 (epoch millis)
+ *
+ * JSON 필드명은 기존 프론트 규격(code, currentPrice, priceChange, changeRate)을 그대로 유지한다.
+ */
+@JsonSerialize(using = StockTickSerializer.class)
+@JsonDeserialize(using = StockTickDeserializer.class)
+public record StockTick(String code, long seq, long price, int change, int changeRateBp,
+                        long volume, long timestamp, long epoch) {
+
+    // 수신 직후 틱 (아직 버퍼에 기록되지 않아 epoch 없음)
+    public StockTick(String code, long seq, long price, int change, int changeRateBp, long volume, long timestamp) {
+        this(code, seq, price, change, changeRateBp, volume, timestamp, 0);
+    }
+
+    // 등락률(%) - 화면/응답용
+    public double changeRate() {
+        return changeRateBp / 100.0;
+    }
+
+    public StockTick withSeq(long epoch, long seq) {
+        return new StockTick(code, seq, price, change, changeRateBp, volume, timestamp, epoch);
+    }
+}
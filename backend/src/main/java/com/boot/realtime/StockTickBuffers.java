@@ -0,0 +1,74 @@
+package com.boot.realtime;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종목코드별 StockTickRingBuffer 보관소
+ *
+ * 메모리 상한 = max-codes x capacity x 32 byte (가격/대비/등락률/거래량/시각)
+ *  - realtime.tick-buffer.capacity  : 종목당 보관 틱 수
+ *  - realtime.tick-buffer.max-codes : 버퍼를 만들 최대 종목 수 (초과분은 브로드캐스트만 하고 보관하지 않음)
+ *
+ * seq 는 프로세스마다 1부터 다시 시작하므로, 생성 시각을 epoch(스트림 id)로 삼아 틱에 함께 싣는다.
+ * 클라이언트는 epoch 가 바뀌면 이전 seq 를 버리고 처음부터 다시 받는다.
+ */
+@Component
+public class StockTickBuffers {
+
+    private final Map<String, StockTickRingBuffer> buffers = new ConcurrentHashMap<>();
+
+    private final int capacity;
+    private final int maxCodes;
+    private final long epoch = System.currentTimeMillis();
+
+    public StockTickBuffers(
+            @Value("${realtime.tick-buffer.capacity:128}") int capacity,
+            @Value("${realtime.tick-buffer.max-codes:500}") int maxCodes) {
+        this.capacity = capacity;
+        this.maxCodes = maxCodes;
+    }
+
+    /**
+     * 틱을 버퍼에 기록하고 seq 를 부여한 틱을 반환한다.
+     * 종목 수 상한을 넘으면 seq 없이(0) 원본 그대로 반환.
+     */
+    public StockTick append(StockTick tick) {
+        StockTickRingBuffer buffer = buffers.get(tick.code());
+        if (buffer == null) {
+            if (buffers.size() >= maxCodes) {
+                return tick;
+            }
+            buffer = buffers.computeIfAbsent(tick.code(), code -> new StockTickRingBuffer(code, capacity, epoch));
+        }
+        return tick.withSeq(epoch, buffer.append(tick));
+    }
+
+    public StockTick latest(String code) {
+        StockTickRingBuffer buffer = buffers.get(code);
+        return buffer == null ? null : buffer.latest();
+    }
+
+    public List<StockTick> since(String code, long sinceSeq, int limit) {
+        StockTickRingBuffer buffer = buffers.get(code);
+        if (buffer == null) return Collections.emptyList();
+        return buffer.since(sinceSeq, Math.min(limit, capacity));
+    }
+
+    public StockTickRingBuffer get(String code) {
+        return buffers.get(code);
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
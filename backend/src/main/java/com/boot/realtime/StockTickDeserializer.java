@@ -0,0 +1,162 @@
+package com.boot.realtime;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * JSON → StockTick
+ *
+ * Python(ws_domestic_stock.py)은 숫자를 문자열로 보내므로("71500", "-0.69")
+ * 중간 Map/String/Double 객체를 만들지 않고 파서 버퍼에서 바로 정수로 변환한다.
+ *
+ * 허용 형식
+ *  - {"code": "005930", "currentPrice": "71500", "priceChange": "-500", "changeRate": "-0.69"}
+ *  - {"stockCode": "005930", "data": { ...위 필드들... }}   (push-realtime 기존 형식)
+ */
+public class StockTickDeserializer extends StdDeserializer<StockTick> {
+
+    public StockTickDeserializer() {
+        super(StockTick.class);
+    }
+
+    @Override
+    public StockTick deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        String code = null;
+        long seq = 0;
+        long epoch = 0;
+        long price = 0;
+        int change = 0;
+        int changeRateBp = 0;
+        long volume = 0;
+        long timestamp = 0;
+
+        int depth = 1;
+        JsonToken t;
+        while (depth > 0 && (t = p.nextToken()) != null) {
+            if (t == JsonToken.END_OBJECT) {
+                depth--;
+                continue;
+            }
+            if (t != JsonToken.FIELD_NAME) {
+                continue;
+            }
+
+            String field = p.getCurrentName();
+            JsonToken value = p.nextToken();
+
+            switch (field) {
+                case "code":
+                case "stockCode":
+                    code = p.getValueAsString();
+                    break;
+                case "data":
+                    // {"stockCode":..., "data":{...}} 형태는 안쪽 필드를 같은 레벨로 취급
+                    if (value == JsonToken.START_OBJECT) {
+                        depth++;
+                    } else {
+                        p.skipChildren();
+                    }
+                    break;
+                case "currentPrice":
+                case "price":
+                    price = readScaled(p, ctxt, 0);
+                    break;
+                case "priceChange":
+                case "change":
+                    change = (int) readScaled(p, ctxt, 0);
+                    break;
+                case "changeRate":
+                    changeRateBp = (int) readScaled(p, ctxt, 2);
+                    break;
+                case "volume":
+                    volume = readScaled(p, ctxt, 0);
+                    break;
+                case "timestamp":
+                    timestamp = p.getValueAsLong();
+                    break;
+                case "seq":
+                    seq = p.getValueAsLong();
+                    break;
+                case "epoch":
+                    epoch = p.getValueAsLong();
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+
+        if (code == null || code.isEmpty()) {
+            return ctxt.reportInputMismatch(StockTick.class, "code(stockCode) 필드가 없습니다");
+        }
+        if (timestamp == 0) {
+            timestamp = System.currentTimeMillis();
+        }
+        return new StockTick(code, seq, price, change, changeRateBp, volume, timestamp, epoch);
+    }
+
+    // 숫자/문자열 값을 10^scale 배 한 정수로 읽는다 (scale 이하 자리는 버림)
+    private long readScaled(JsonParser p, DeserializationContext ctxt, int scale) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.VALUE_NUMBER_INT) {
+            long v = p.getLongValue();
+            for (int i = 0; i < scale; i++) v *= 10;
+            return v;
+        }
+        if (t == JsonToken.VALUE_NUMBER_FLOAT || t == JsonToken.VALUE_STRING) {
+            return parseScaled(p.getTextCharacters(), p.getTextOffset(), p.getTextLength(), scale, p, ctxt);
+        }
+        if (t == JsonToken.VALUE_NULL) {
+            return 0;
+        }
+        return ((Number) ctxt.handleUnexpectedToken(Long.class, p)).longValue();
+    }
+
+    private long parseScaled(char[] buf, int off, int len, int scale,
+                             JsonParser p, DeserializationContext ctxt) throws IOException {
+        int i = off;
+        int end = off + len;
+
+        // 앞뒤 공백 제거
+        while (i < end && buf[i] == ' ') i++;
+        while (end > i && buf[end - 1] == ' ') end--;
+        if (i == end) return 0;
+
+        boolean negative = false;
+        if (buf[i] == '-' || buf[i] == '+') {
+            negative = buf[i] == '-';
+            i++;
+        }
+
+        long v = 0;
+        int fraction = -1;
+        boolean digits = false;
+        for (; i < end; i++) {
+            char c = buf[i];
+            if (c >= '0' && c <= '9') {
+                digits = true;
+                if (fraction >= 0) {
+                    if (fraction == scale) continue;
+                    fraction++;
+                }
+                v = v * 10 + (c - '0');
+            } else if (c == '.' && fraction < 0) {
+                fraction = 0;
+            } else if (c == ',') {
+                // 천 단위 구분자 허용
+            } else {
+                break;
+            }
+        }
+        if (!digits || i != end) {
+            return ((Number) ctxt.handleWeirdStringValue(Long.class, new String(buf, off, len),
+                    "숫자 형식이 아닙니다")).longValue();
+        }
+
+        for (int f = Math.max(fraction, 0); f < scale; f++) v *= 10;
+        return negative ? -v : v;
+    }
+}
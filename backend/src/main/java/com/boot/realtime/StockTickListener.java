@@ -0,0 +1,11 @@
+package com.boot.realtime;
+
+/**
+ * 실시간 틱 구독자
+ * StockTickService 가 브로드캐스트 전에 등록된 모든 빈에게 같은 StockTick 인스턴스를 전달한다.
+ * (수신 스레드에서 호출되므로 오래 걸리는 작업은 내부에서 버퍼링할 것)
+ */
+public interface StockTickListener {
+
+    void onTick(StockTick tick);
+}
@@ -0,0 +1,92 @@
+package com.boot.realtime;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 종목 하나의 최근 틱 링버퍼
+ *
+ * 생성 시점에 capacity 만큼 원시 배열을 미리 잡아두고 덮어쓴다 (틱 객체를 보관하지 않음).
+ * seq 는 1부터 증가하며, seq 의 슬롯 위치는 (seq - 1) % capacity 이다.
+ * seq 는 버퍼를 새로 만들면 다시 1부터 시작하므로 읽은 틱에는 버퍼의 epoch 를 함께 싣는다.
+ */
+public class StockTickRingBuffer {
+
+    private final String code;
+    private final int capacity;
+    private final long epoch;
+
+    private final long[] prices;
+    private final int[] changes;
+    private final int[] changeRates;
+    private final long[] volumes;
+    private final long[] timestamps;
+
+    // 마지막으로 기록된 seq (0 = 비어 있음)
+    private long lastSeq;
+
+    public StockTickRingBuffer(String code, int capacity) {
+        this(code, capacity, 0);
+    }
+
+    public StockTickRingBuffer(String code, int capacity, long epoch) {
+        this.code = code;
+        this.capacity = capacity;
+        this.epoch = epoch;
+        this.prices = new long[capacity];
+        this.changes = new int[capacity];
+        this.changeRates = new int[capacity];
+        this.volumes = new long[capacity];
+        this.timestamps = new long[capacity];
+    }
+
+    // 틱을 기록하고 부여한 seq 를 반환
+    public synchronized long append(StockTick tick) {
+        long seq = ++lastSeq;
+        int slot = slot(seq);
+        prices[slot] = tick.price();
+        changes[slot] = tick.change();
+        changeRates[slot] = tick.changeRateBp();
+        volumes[slot] = tick.volume();
+        timestamps[slot] = tick.timestamp();
+        return seq;
+    }
+
+    public synchronized StockTick latest() {
+        return lastSeq == 0 ? null : read(lastSeq);
+    }
+
+    /**
+     * sinceSeq 이후(초과) 틱을 오래된 순으로 최대 limit 개 반환
+     * 요청한 구간이 이미 덮어써졌으면 남아 있는 가장 오래된 틱부터 반환한다.
+     */
+    public synchronized List<StockTick> since(long sinceSeq, int limit) {
+        long first = Math.max(sinceSeq + 1, firstSeq());
+        first = Math.max(first, lastSeq - limit + 1);
+
+        List<StockTick> result = new ArrayList<>((int) Math.max(0, lastSeq - first + 1));
+        for (long seq = first; seq <= lastSeq; seq++) {
+            result.add(read(seq));
+        }
+        return result;
+    }
+
+    // 버퍼에 남아 있는 가장 오래된 seq
+    public synchronized long firstSeq() {
+        return Math.max(1, lastSeq - capacity + 1);
+    }
+
+    public synchronized long lastSeq() {
+        return lastSeq;
+    }
+
+    private StockTick read(long seq) {
+        int slot = slot(seq);
+        return new StockTick(code, seq, prices[slot], changes[slot], changeRates[slot], volumes[slot], timestamps[slot],
+                epoch);
+    }
+
+    private int slot(long seq) {
+        return (int) ((seq - 1) % capacity);
+    }
+}
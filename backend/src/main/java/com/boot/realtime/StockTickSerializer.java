@@ -0,0 +1,32 @@
+package com.boot.realtime;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * StockTick → JSON
+ * 프론트(StockDetailPage, HomePage 등)가 사용하는 필드명을 그대로 내보낸다.
+ */
+public class StockTickSerializer extends StdSerializer<StockTick> {
+
+    public StockTickSerializer() {
+        super(StockTick.class);
+    }
+
+    @Override
+    public void serialize(StockTick tick, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("code", tick.code());
+        gen.writeNumberField("currentPrice", tick.price());
+        gen.writeNumberField("priceChange", tick.change());
+        gen.writeNumberField("changeRate", tick.changeRate());
+        gen.writeNumberField("volume", tick.volume());
+        gen.writeNumberField("timestamp", tick.timestamp());
+        gen.writeNumberField("seq", tick.seq());
+        gen.writeNumberField("epoch", tick.epoch());
+        gen.writeEndObject();
+    }
+}
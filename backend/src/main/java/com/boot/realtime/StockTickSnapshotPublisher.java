@@ -0,0 +1,97 @@
+package com.boot.realtime;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * /topic/stock/{code} 구독 직후, 해당 구독자에게만 버퍼에 쌓인 최근 틱을 바로 보내준다.
+ * (다음 체결까지 화면이 비어 있는 문제 해결)
+ *
+ * - 기본 : 최근 realtime.tick-buffer.snapshot-size 개
+ * - 재접속 : SUBSCRIBE 헤더에 sinceSeq(+ epoch) 를 넣으면 그 이후 틱만 이어서 전송
+ *           epoch 가 다르면 (서버 재시작/다른 노드) seq 가 이어지지 않으므로 신규 구독처럼 보낸다
+ *
+ * 메시지 형식은 일반 틱과 같으므로 기존 프론트 구독 콜백이 그대로 처리한다.
+ */
+@Component
+public class StockTickSnapshotPublisher {
+
+    private static final String TOPIC_PREFIX = "/topic/stock/";
+
+    private final StockTickBuffers tickBuffers;
+    private final MessageChannel clientOutboundChannel;
+    private final ObjectMapper objectMapper;
+    private final int snapshotSize;
+
+    public StockTickSnapshotPublisher(
+            StockTickBuffers tickBuffers,
+            @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+            ObjectMapper objectMapper,
+            @Value("${realtime.tick-buffer.snapshot-size:20}") int snapshotSize) {
+        this.tickBuffers = tickBuffers;
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.objectMapper = objectMapper;
+        this.snapshotSize = snapshotSize;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor stomp = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = stomp.getDestination();
+        if (destination == null || !destination.startsWith(TOPIC_PREFIX)) return;
+
+        String code = destination.substring(TOPIC_PREFIX.length());
+        long sinceSeq = parseLongHeader(stomp, "sinceSeq");
+        if (sinceSeq > 0 && parseLongHeader(stomp, "epoch") != tickBuffers.getEpoch()) {
+            sinceSeq = 0;
+        }
+
+        // 이어받기는 버퍼에 남은 만큼 전부, 신규 구독은 최근 snapshotSize 개
+        int limit = sinceSeq > 0 ? tickBuffers.getCapacity() : snapshotSize;
+        List<StockTick> ticks = tickBuffers.since(code, sinceSeq, limit);
+
+        for (StockTick tick : ticks) {
+            send(stomp.getSessionId(), stomp.getSubscriptionId(), destination, tick);
+        }
+    }
+
+    // 헤더가 없거나 숫자가 아니면 0 (sinceSeq 0 → 최근 snapshotSize 개)
+    private long parseLongHeader(StompHeaderAccessor stomp, String name) {
+        String value = stomp.getFirstNativeHeader(name);
+        if (value == null) return 0;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void send(String sessionId, String subscriptionId, String destination, StockTick tick) {
+        try {
+            SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            headers.setSessionId(sessionId);
+            headers.setSubscriptionId(subscriptionId);
+            headers.setDestination(destination);
+            headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            headers.setLeaveMutable(true);
+
+            byte[] payload = objectMapper.writeValueAsBytes(tick);
+            clientOutboundChannel.send(MessageBuilder.createMessage(payload, headers.getMessageHeaders()));
+        } catch (Exception e) {
+            System.err.println("스냅샷 전송 실패 (" + destination + "): " + e.getMessage());
+        }
+    }
+}
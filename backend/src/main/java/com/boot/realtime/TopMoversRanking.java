@@ -0,0 +1,173 @@
+package com.boot.realtime;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import com.boot.dao.StockInfoDAO;
+import com.boot.dto.StockInfoDTO;
+
+/**
+ * 급등/급락 순위 (메모리)
+ *
+ * 서버 시작 시 STOCK_INFO 등락률로 한 번 채운 뒤, 실시간 틱과 크롤러 저장(POST /api/stocks)으로 갱신한다.
+ * 등락률 순 skip-list + 종목코드 색인으로 갱신 O(log n), 상위 N 조회 O(N).
+ * 상위/하위 N 종목 구성(순서 무관)이 바뀌면 /topic/top-movers 로 전체 순위를 push 한다.
+ * 구성은 그대로이고 등락률/순서만 바뀐 경우는 push 하지 않는다. (다음 구성 변경이나 조회 때 반영)
+ *
+ * 조회는 lock 없이 skip-list 를 읽고, 갱신은 remove → add 순서라 그 사이에 읽으면 해당 종목이
+ * 잠깐 빠지거나 (순회 도중 자리를 옮기면) 두 번 지나갈 수 있다. 빠지는 것은 화면 표시용 근사 순위이므로
+ * 허용하고, 중복은 조회 결과에서 걸러낸다. (push 는 lock 안에서 계산해 일관됨)
+ */
+@Component
+public class TopMoversRanking implements StockTickListener {
+
+    public static final String TOPIC = "/topic/top-movers";
+
+    private static final Comparator<Entry> ORDER =
+            Comparator.comparingInt((Entry e) -> e.rateBp).thenComparing(e -> e.code);
+
+    private static final class Entry {
+        final String code;
+        final int rateBp;
+
+        Entry(String code, int rateBp) {
+            this.code = code;
+            this.rateBp = rateBp;
+        }
+    }
+
+    // 읽기는 lock 없이, 쓰기는 synchronized(this) 로 한 번에 하나씩
+    private final NavigableSet<Entry> ranked = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<String, Entry> byCode = new ConcurrentHashMap<>();
+    private final Map<String, String> names = new ConcurrentHashMap<>();
+
+    private final StockInfoDAO stockInfoDAO;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final int size;
+
+    private List<String> lastRising = List.of();
+    private List<String> lastFalling = List.of();
+
+    public TopMoversRanking(StockInfoDAO stockInfoDAO,
+                            SimpMessagingTemplate messagingTemplate,
+                            @Value("${realtime.movers.size:3}") int size) {
+        this.stockInfoDAO = stockInfoDAO;
+        this.messagingTemplate = messagingTemplate;
+        this.size = size;
+    }
+
+    // STOCK_INFO 전체를 한 번만 읽어 초기 순위 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        try {
+            for (StockInfoDTO dto : stockInfoDAO.selectAllChangeRates()) {
+                update(dto.getStockCode(), dto.getStockName(), dto.getChangeRate());
+            }
+            System.out.println("급등/급락 순위 초기화 완료: " + byCode.size() + "종목");
+        } catch (Exception e) {
+            System.err.println("급등/급락 순위 초기화 실패 (DB 조회로 대체): " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void onTick(StockTick tick) {
+        update(tick.code(), null, tick.changeRateBp());
+    }
+
+    // 크롤러 저장 등 DTO 기반 갱신
+    public void update(String code, String name, Double changeRate) {
+        if (code == null || changeRate == null) return;
+        update(code, name, (int) Math.round(changeRate * 100));
+    }
+
+    private void update(String code, String name, int rateBp) {
+        if (name != null) {
+            names.put(code, name);
+        }
+
+        Map<String, List<StockInfoDTO>> changed = null;
+        synchronized (this) {
+            Entry old = byCode.get(code);
+            if (old != null && old.rateBp == rateBp) return;
+
+            Entry entry = new Entry(code, rateBp);
+            if (old != null) ranked.remove(old);
+            ranked.add(entry);
+            byCode.put(code, entry);
+
+            // 상위/하위 N 구성이 바뀐 경우에만 push
+            List<String> rising = topCodes(ranked.descendingIterator());
+            List<String> falling = topCodes(ranked.iterator());
+            if (!sameMembers(rising, lastRising) || !sameMembers(falling, lastFalling)) {
+                lastRising = rising;
+                lastFalling = falling;
+                changed = getTopMovers();
+            }
+        }
+
+        if (changed != null) {
+            messagingTemplate.convertAndSend(TOPIC, changed);
+        }
+    }
+
+    public boolean isEmpty() {
+        return byCode.isEmpty();
+    }
+
+    public List<StockInfoDTO> topRising() {
+        return toDTOs(ranked.descendingIterator());
+    }
+
+    public List<StockInfoDTO> topFalling() {
+        return toDTOs(ranked.iterator());
+    }
+
+    public Map<String, List<StockInfoDTO>> getTopMovers() {
+        Map<String, List<StockInfoDTO>> movers = new HashMap<>();
+        movers.put("rising", topRising());
+        movers.put("falling", topFalling());
+        return movers;
+    }
+
+    // N 이 작으므로 (기본 3) 집합을 만들지 않고 비교
+    private static boolean sameMembers(List<String> a, List<String> b) {
+        return a.size() == b.size() && a.containsAll(b);
+    }
+
+    private List<String> topCodes(Iterator<Entry> it) {
+        List<String> codes = new ArrayList<>(size);
+        while (codes.size() < size && it.hasNext()) {
+            codes.add(it.next().code);
+        }
+        return codes;
+    }
+
+    private List<StockInfoDTO> toDTOs(Iterator<Entry> it) {
+        List<StockInfoDTO> list = new ArrayList<>(size);
+        List<String> seen = new ArrayList<>(size);
+        while (list.size() < size && it.hasNext()) {
+            Entry e = it.next();
+            if (seen.contains(e.code)) continue;
+            seen.add(e.code);
+            StockInfoDTO dto = new StockInfoDTO();
+            dto.setStockCode(e.code);
+            dto.setStockName(names.get(e.code));
+            dto.setChangeRate(e.rateBp / 100.0);
+            list.add(dto);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,109 @@
+package com.boot.scheduler;
+
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.boot.dao.IndexJobRunDAO;
+import com.boot.dto.IndexJobRunDTO;
+import com.boot.index.IndexCollectReport;
+
+/**
+ * 지수 수집 작업을 클러스터에서 한 노드만 실행
+ *
+ * 1. 리스(index-ingest:{지수명}) 획득 - 실패하면 SKIPPED
+ *    일일 스케줄은 오늘 이미 DONE 된 스케줄 실행이 있어도 SKIPPED (노드별 cron 시각이 어긋나도 하루 한 번)
+ * 2. INDEX_JOB_RUN 시작 기록 - 더 큰 토큰의 실행이 이미 있으면 FENCED
+ * 3. 작업 실행 - 작업에는 리스 보유 여부(leaseHeld)를 넘겨, 리스를 잃으면 페이지/배치 사이에서 멈추게 한다
+ * 4. 소요 시간/저장 행 수 기록 - 같은 토큰일 때만 반영
+ * 기동 동기화와 일일 스케줄이 같은 리스를 쓰므로 서로도 겹치지 않는다.
+ */
+@Component
+public class IndexJobRunner {
+
+    public static final String TRIGGER_SCHEDULE = "SCHEDULE";
+    public static final String TRIGGER_STARTUP = "STARTUP";
+
+    private final LeaseManager leaseManager;
+    private final IndexJobRunDAO indexJobRunDAO;
+
+    @Autowired
+    public IndexJobRunner(LeaseManager leaseManager, IndexJobRunDAO indexJobRunDAO) {
+        this.leaseManager = leaseManager;
+        this.indexJobRunDAO = indexJobRunDAO;
+    }
+
+    // 리스 보유 중에 실행되는 작업 (leaseHeld 가 false 가 되면 저장을 멈춰야 함)
+    @FunctionalInterface
+    public interface Job {
+        IndexCollectReport run(BooleanSupplier leaseHeld) throws Exception;
+    }
+
+    public static String leaseName(String idxNm) {
+        return "index-ingest:" + idxNm;
+    }
+
+    /**
+     * 반환값의 status 가 SKIPPED / FENCED 면 작업을 실행하지 않은 것
+     * 작업 예외는 FAILED 로 기록 후 다시 던진다.
+     */
+    public IndexJobRunDTO run(String idxNm, String triggerType, Job job) throws Exception {
+        String name = leaseName(idxNm);
+        IndexJobRunDTO run = new IndexJobRunDTO();
+        run.setJobName(name);
+        run.setTriggerType(triggerType);
+        run.setNodeId(leaseManager.getNodeId());
+
+        Optional<Lease> acquired = leaseManager.tryAcquire(name);
+        if (acquired.isEmpty()) {
+            run.setStatus("SKIPPED");
+            System.out.println("[" + name + "] 다른 노드에서 실행 중 - 건너뜀");
+            return run;
+        }
+
+        try (Lease lease = acquired.get()) {
+            // 리스를 잡은 뒤에 확인해야 방금 끝난 다른 노드의 실행도 보인다
+            if (TRIGGER_SCHEDULE.equals(triggerType) && indexJobRunDAO.countScheduleDoneToday(name) > 0) {
+                run.setStatus("SKIPPED");
+                System.out.println("[" + name + "] 오늘 일일 수집 이미 완료 - 건너뜀");
+                return run;
+            }
+            run.setFenceToken(lease.getToken());
+            if (indexJobRunDAO.startRun(run) == 0) {
+                run.setStatus("FENCED");
+                System.out.println("[" + name + "] 더 새로운 실행이 있음 (token " + lease.getToken() + ") - 건너뜀");
+                return run;
+            }
+
+            long start = System.currentTimeMillis();
+            try {
+                IndexCollectReport report = job.run(lease::isHeld);
+                run.setStatus("DONE");
+                run.setRowCount(report == null ? 0 : report.getRows());
+            } catch (Exception e) {
+                run.setStatus("FAILED");
+                run.setErrorMsg(e.getMessage());
+                throw e;
+            } finally {
+                run.setDurationMs(System.currentTimeMillis() - start);
+                finish(run, lease);
+            }
+            return run;
+        }
+    }
+
+    private void finish(IndexJobRunDTO run, Lease lease) {
+        if (!lease.isHeld()) {
+            System.err.println("[" + run.getJobName() + "] 실행 중 리스 상실 (token " + lease.getToken() + ")");
+        }
+        if (indexJobRunDAO.finishRun(run) == 0) {
+            run.setStatus("FENCED");
+            System.err.println("[" + run.getJobName() + "] 종료 기록 거부 - 다른 노드가 이후 실행을 시작함");
+            return;
+        }
+        System.out.println("[" + run.getJobName() + "] " + run.getStatus() + " "
+                + run.getDurationMs() + " ms, " + run.getRowCount() + " rows (token " + run.getFenceToken() + ")");
+    }
+}
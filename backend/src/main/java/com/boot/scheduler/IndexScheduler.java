@@ -1,34 +1,35 @@
-//package com.boot.scheduler;
-//
-//import com.boot.service.IndexService;
-//import org.springframework.beans.factory.annotation.Autowired;
-//import org.springframework.scheduling.annotation.Scheduled;
-//import org.springframework.stereotype.Component;
-//
-//import java.time.LocalDate;
-//import java.time.format.DateTimeFormatter;
-//
-//@Component
-//public class IndexScheduler {
-//
-//    @Autowired
-//    private IndexService indexService;
-//
-//    // 매일 17:00 KST 에 전일(또는 오늘 기준 적절한 날짜)의 KOSPI 데이터 저장
-//    @Scheduled(cron = "0 0 3 * * ?", zone = "Asia/Seoul")
-//    public void saveDailyKospi() {
-//        String targetDate = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-//        System.out.println("[SCHEDULER] KOSPI 일일 저장 시작: " + targetDate);
-//        indexService.saveSingleDayData(targetDate);
-//        System.out.println("[SCHEDULER] KOSPI 일일 저장 완료: " + targetDate);
-//    }
-//
-//    // 매일 17:02 KST 에 KOSDAQ 데이터 저장
-//    @Scheduled(cron = "0 5 3 * * ?", zone = "Asia/Seoul")
-//    public void saveDailyKosdaq() {
-//        String targetDate = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-//        System.out.println("[SCHEDULER] KOSDAQ 일일 저장 시작: " + targetDate);
-//        indexService.saveSingleKosdaqDayData(targetDate);
-//        System.out.println("[SCHEDULER] KOSDAQ 일일 저장 완료: " + targetDate);
-//    }
-//}
+package com.boot.scheduler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.boot.service.IndexService;
+
+// 지수 일일 수집 (여러 노드에서 돌아도 지수별 리스를 얻은 한 노드만 실행)
+@Component
+public class IndexScheduler {
+
+    @Autowired
+    private IndexService indexService;
+
+    @Autowired
+    private IndexJobRunner indexJobRunner;
+
+    // 매일 03:00 KST - 대상 지수(index.targets)마다 마지막 저장일 이후 누락분 수집
+    @Scheduled(cron = "${index.schedule.cron:0 0 3 * * ?}", zone = "Asia/Seoul")
+    public void saveDaily() {
+        for (String idxNm : indexService.getSyncTargets()) {
+            runDaily(idxNm);
+        }
+    }
+
+    private void runDaily(String idxNm) {
+        System.out.println("[SCHEDULER] " + idxNm + " 일일 수집 시작");
+        try {
+            indexJobRunner.run(idxNm, IndexJobRunner.TRIGGER_SCHEDULE, leaseHeld -> indexService.syncMissing(idxNm, leaseHeld));
+        } catch (Exception e) {
+            System.err.println("[SCHEDULER] " + idxNm + " 일일 수집 실패: " + e.getMessage());
+        }
+    }
+}
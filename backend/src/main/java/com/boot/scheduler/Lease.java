@@ -0,0 +1,49 @@
+package com.boot.scheduler;
+
+/**
+ * 획득한 리스 (이름 + 펜싱 토큰)
+ *
+ * 토큰은 리스를 얻을 때마다 증가하므로, 작업 결과를 기록할 때
+ * "저장된 토큰보다 작으면 거부" 조건을 걸면 만료 후 늦게 끝난 노드의 기록을 막을 수 있다.
+ */
+public class Lease implements AutoCloseable {
+
+    private final LeaseManager manager;
+    private final String name;
+    private final long token;
+    private final String value;
+    private volatile boolean held = true;
+
+    Lease(LeaseManager manager, String name, long token, String value) {
+        this.manager = manager;
+        this.name = name;
+        this.token = token;
+        this.value = value;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getToken() {
+        return token;
+    }
+
+    String getValue() {
+        return value;
+    }
+
+    // 갱신 실패(만료 후 다른 노드가 획득 등)면 false
+    public boolean isHeld() {
+        return held;
+    }
+
+    void lost() {
+        held = false;
+    }
+
+    @Override
+    public void close() {
+        manager.release(this);
+    }
+}
@@ -0,0 +1,105 @@
+package com.boot.scheduler;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클러스터 단일 실행용 리스 (Redis)
+ *
+ * - lease:{name}       = "{nodeId}:{token}" (SET NX PX ttl)
+ * - lease:{name}:fence = 펜싱 토큰 (INCR)
+ * 보유 중에는 ttl/3 마다 값이 같을 때만 만료 시간을 연장하고, 실패하면 Lease.isHeld() = false.
+ */
+@Component
+public class LeaseManager {
+
+    private final LeaseStore store;
+    private final long ttlMillis;
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private final Map<Lease, ScheduledFuture<?>> renewals = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "lease-renew");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @Autowired
+    public LeaseManager(LeaseStore store, @Value("${scheduler.lease.ttl-ms:60000}") long ttlMillis) {
+        this.store = store;
+        this.ttlMillis = Math.max(1000, ttlMillis);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // 다른 노드가 보유 중이거나 Redis 오류면 empty
+    public Optional<Lease> tryAcquire(String name) {
+        try {
+            long token = store.increment(key(name) + ":fence");
+            String value = nodeId + ":" + token;
+            if (!store.setIfAbsent(key(name), value, ttlMillis)) {
+                return Optional.empty();
+            }
+            Lease lease = new Lease(this, name, token, value);
+            long period = ttlMillis / 3;
+            renewals.put(lease, renewer.scheduleAtFixedRate(() -> renew(lease), period, period, TimeUnit.MILLISECONDS));
+            return Optional.of(lease);
+        } catch (Exception e) {
+            System.err.println("[lease:" + name + "] 획득 실패: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void renew(Lease lease) {
+        boolean ok;
+        try {
+            ok = store.expireIfEquals(key(lease.getName()), lease.getValue(), ttlMillis);
+        } catch (Exception e) {
+            ok = false;
+        }
+        if (!ok) {
+            System.err.println("[lease:" + lease.getName() + "] 리스 상실 (token " + lease.getToken() + ")");
+            lease.lost();
+            cancelRenewal(lease);
+        }
+    }
+
+    void release(Lease lease) {
+        cancelRenewal(lease);
+        if (!lease.isHeld()) return;
+        lease.lost();
+        try {
+            store.deleteIfEquals(key(lease.getName()), lease.getValue());
+        } catch (Exception e) {
+            // 해제 실패 시 TTL 로 만료
+            System.err.println("[lease:" + lease.getName() + "] 해제 실패: " + e.getMessage());
+        }
+    }
+
+    private void cancelRenewal(Lease lease) {
+        ScheduledFuture<?> f = renewals.remove(lease);
+        if (f != null) f.cancel(false);
+    }
+
+    private static String key(String name) {
+        return "lease:" + name;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+}
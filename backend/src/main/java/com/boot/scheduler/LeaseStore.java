@@ -0,0 +1,24 @@
+package com.boot.scheduler;
+
+/**
+ * 리스 저장소 (Redis 명령 의미 그대로)
+ *
+ * 운영은 RedisLeaseStore, 테스트는 같은 의미의 메모리 구현으로 대체한다.
+ */
+public interface LeaseStore {
+
+    // INCR key - 펜싱 토큰 (단조 증가)
+    long increment(String key);
+
+    // SET key value NX PX ttl
+    boolean setIfAbsent(String key, String value, long ttlMillis);
+
+    // value 가 같을 때만 PEXPIRE (갱신)
+    boolean expireIfEquals(String key, String value, long ttlMillis);
+
+    // value 가 같을 때만 DEL (해제)
+    boolean deleteIfEquals(String key, String value);
+
+    // GET key
+    String get(String key);
+}
@@ -0,0 +1,54 @@
+package com.boot.scheduler;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// Redis 리스 저장소 (비교 후 갱신/삭제는 Lua 스크립트로 원자적으로)
+@Component
+@RequiredArgsConstructor
+public class RedisLeaseStore implements LeaseStore {
+
+    private static final DefaultRedisScript<Long> EXPIRE_IF_EQUALS = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private static final DefaultRedisScript<Long> DELETE_IF_EQUALS = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public long increment(String key) {
+        Long v = redisTemplate.opsForValue().increment(key);
+        return v == null ? 0 : v;
+    }
+
+    @Override
+    public boolean setIfAbsent(String key, String value, long ttlMillis) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, ttlMillis, TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public boolean expireIfEquals(String key, String value, long ttlMillis) {
+        Long r = redisTemplate.execute(EXPIRE_IF_EQUALS, List.of(key), value, Long.toString(ttlMillis));
+        return r != null && r == 1;
+    }
+
+    @Override
+    public boolean deleteIfEquals(String key, String value) {
+        Long r = redisTemplate.execute(DELETE_IF_EQUALS, List.of(key), value);
+        return r != null && r == 1;
+    }
+
+    @Override
+    public String get(String key) {
+        return redisTemplate.opsForValue().get(key);
+    }
+}
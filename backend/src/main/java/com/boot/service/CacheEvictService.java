@@ -2,24 +2,32 @@
 
 package com.boot.service;
 
+import com.boot.cache.CacheVersions;
+import com.boot.index.IndexDefinition;
+import com.boot.index.IndexRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
 public class CacheEvictService {
 
+    // 지수 히스토리는 지우지 않고 버전을 올려 새 네임스페이스로 전환 (이전 키는 TTL 만료)
     @Autowired
-    private RedisTemplate<String, Object> redisTemplate;
+    private CacheVersions cacheVersions;
 
-    public void evictKospiHistoryCache() {
-        redisTemplate.delete("kospiHistoryCache::kospi_all");
-        System.out.println("🔥 Redis에서 KOSPI 캐시 직접 삭제 완료");
+    @Autowired
+    private IndexRegistry indexRegistry;
+
+    // 지수 하나의 히스토리 캐시 무효화
+    public void evictIndexHistoryCache(String index) {
+        String version = cacheVersions.invalidate(IndexReadService.HISTORY_CACHE_NAME, index);
+        System.out.println("🔥 " + index + " 히스토리 캐시 무효화 (버전 " + version + ")");
     }
 
-    public void evictKosdaqHistoryCache() {
-        redisTemplate.delete("kosdaqHistoryCache::kosdaq_all");
-        System.out.println("🔥 Redis에서 KOSDAQ 캐시 직접 삭제 완료");
+    // 전 지수 히스토리 캐시 무효화
+    public void clearIndexHistoryCache() {
+        for (IndexDefinition def : indexRegistry.all()) {
+            evictIndexHistoryCache(def.key());
+        }
     }
 }
@@ -2,29 +2,36 @@
 
 package com.boot.service;
 
+import com.boot.index.IndexDefinition;
+import com.boot.index.IndexRegistry;
+import com.boot.index.IndexSyncCompletedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import javax.annotation.PostConstruct;
 
 @Service
 public class CacheInitializerService {
 
-    // 🌟 CacheEvictService 주입
+    // 🌟 히스토리 캐시 (버전 네임스페이스)
     @Autowired
-    private CacheEvictService cacheEvictService;
+    private IndexReadService indexReadService;
+
+    @Autowired
+    private IndexRegistry indexRegistry;
     
-    // 서버 시작 시 (모든 Bean 초기화 후) 단 한 번 실행
-    // 이 메서드는 IndexService의 @PostConstruct보다 늦게 실행될 가능성이 높습니다.
-    @PostConstruct
-    public void initializeCachesOnStartup() {
-        System.out.println("AUTO INIT: CacheInitializerService 실행 - 캐시 강제 무효화 시작");
+    // 기동 후 백그라운드 지수 동기화(IndexSyncService)가 끝난 뒤에 한 번 실행
+    // 캐시 버전이 아직 없을 때(클러스터 최초 기동)만 채운다. 재기동/롤링 배포 때는 기존 캐시를 그대로 쓰고,
+    // 이번 동기화로 새 데이터가 들어왔다면 IndexService 가 이미 새 버전으로 교체해 두었다.
+    @EventListener
+    public void initializeCachesAfterSync(IndexSyncCompletedEvent event) {
+        System.out.println("AUTO INIT: 지수 동기화 종료 " + event + " - 캐시 갱신 시작");
         try {
-            // IndexService의 데이터 수집/업데이트가 완료되었다고 가정하고 캐시 삭제를 실행합니다.
-            cacheEvictService.evictKospiHistoryCache();
-            cacheEvictService.evictKosdaqHistoryCache();
-            System.out.println("AUTO INIT: 모든 캐시 초기화 완료.");
+            for (IndexDefinition def : indexRegistry.all()) {
+                indexReadService.warmTimeSeriesData(def.key());
+            }
+            System.out.println("AUTO INIT: 캐시 확인 완료.");
         } catch (Exception e) {
-            System.err.println("AUTO INIT: 캐시 초기화 중 오류 발생 (Redis 서버 확인 필요): " + e.getMessage());
+            System.err.println("AUTO INIT: 캐시 갱신 중 오류 발생 (Redis 서버 확인 필요): " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
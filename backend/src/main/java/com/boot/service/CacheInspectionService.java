@@ -0,0 +1,139 @@
+package com.boot.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.boot.cache.TwoLevelCache;
+import com.boot.cache.TwoLevelCacheManager;
+
+/**
+ * 캐시 조회/관리 (관리자)
+ *
+ * Redis 키는 "{캐시}::{키}" 형식이고, 키 나열은 KEYS 대신 SCAN(MATCH, COUNT) 으로 한다.
+ * 패턴 삭제는 찾은 키마다 캐시 evict 를 호출해 L1 과 다른 노드 L1 까지 함께 지운다.
+ */
+@Service
+public class CacheInspectionService {
+
+    private static final int SCAN_COUNT = 500;
+
+    @Autowired
+    private TwoLevelCacheManager cacheManager;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    public List<Map<String, Object>> listCaches() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (String name : new TreeSet<>(cacheManager.getCacheNames())) {
+            Map<String, Object> stats = cacheManager.getStats(name);
+            if (stats == null) continue;
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("name", name);
+            m.put("l1Size", stats.get("l1Size"));
+            m.put("hits", stats.get("hits"));
+            m.put("misses", stats.get("misses"));
+            m.put("hitRatio", stats.get("hitRatio"));
+            result.add(m);
+        }
+        return result;
+    }
+
+    // 없는 캐시면 null
+    public Map<String, Object> getStats(String name) {
+        return exists(name) ? cacheManager.getStats(name) : null;
+    }
+
+    public boolean exists(String name) {
+        return cacheManager.getCacheNames().contains(name);
+    }
+
+    // L2(Redis) 키 (캐시 접두사 제외), 최대 limit 개
+    public List<String> scanKeys(String name, String pattern, int limit) {
+        String prefix = name + "::";
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + pattern).count(SCAN_COUNT).build();
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            scan(connection, options, prefix, keys, limit);
+            return null;
+        });
+        return keys;
+    }
+
+    private static void scan(RedisConnection connection, ScanOptions options, String prefix, List<String> keys, int limit) {
+        try (Cursor<byte[]> cursor = connection.scan(options)) {
+            while (cursor.hasNext() && keys.size() < limit) {
+                String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                keys.add(key.substring(prefix.length()));
+            }
+        }
+    }
+
+    public void evict(String name, String key) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache != null) cache.evict(key);
+    }
+
+    public void clear(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache != null) cache.clear();
+    }
+
+    /**
+     * 패턴(Redis glob: *, ?)에 맞는 키 삭제. L2 에서 SCAN 으로 찾은 키와
+     * L2 에서는 이미 만료됐지만 이 노드 L1 에 남은 키를 함께 지운다.
+     */
+    public List<String> evictByPattern(String name, String pattern) {
+        Pattern regex = globToRegex(pattern);
+        List<String> evicted = evictMatching(name, pattern, key -> regex.matcher(key).matches());
+        System.out.println("🔥 [" + name + "] 패턴 " + pattern + " 캐시 " + evicted.size() + "건 삭제");
+        return evicted;
+    }
+
+    // scanPattern 으로 L2 를 한 번 훑고, 그 중 filter 를 통과한 키 + 이 노드 L1 키를 삭제
+    public List<String> evictMatching(String name, String scanPattern, Predicate<String> filter) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) return List.of();
+
+        TreeSet<String> keys = new TreeSet<>();
+        for (String key : scanKeys(name, scanPattern, Integer.MAX_VALUE)) {
+            if (filter.test(key)) keys.add(key);
+        }
+        if (cache instanceof TwoLevelCache twoLevel) {
+            for (String key : twoLevel.getLocalKeys()) {
+                if (filter.test(key)) keys.add(key);
+            }
+        }
+        for (String key : keys) {
+            cache.evict(key);
+        }
+        return new ArrayList<>(keys);
+    }
+
+    static Pattern globToRegex(String glob) {
+        StringBuilder sb = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            switch (c) {
+                case '*' -> sb.append(".*");
+                case '?' -> sb.append('.');
+                default -> sb.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(sb.toString());
+    }
+}
@@ -0,0 +1,126 @@
+package com.boot.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.boot.dao.IndexCheckpointDAO;
+import com.boot.dto.IndexCheckpointDTO;
+import com.boot.dto.IndexGapDTO;
+import com.boot.index.IndexCollectReport;
+
+/**
+ * 지수 과거 데이터 백필
+ *
+ * - resumeIncomplete : 체크포인트에 남은 미완료 작업을 같은 구간으로 다시 실행 (완료 페이지는 건너뜀)
+ * - repairGaps       : 누락 구간 스캔(쿼리 1회) 후 구간별 수집을 gap-concurrency 개씩 병렬 실행
+ *                      데이터가 없는 구간(긴 휴장)은 EMPTY 로 기록해 다음 스캔에서 제외
+ * 캐시 갱신은 구간마다 하지 않고 작업이 끝난 뒤 지수당 한 번만 한다.
+ */
+@Service
+public class IndexBackfillService {
+
+    @Autowired
+    private IndexService indexService;
+
+    @Autowired
+    private IndexCheckpointDAO indexCheckpointDAO;
+
+    // 연속 기준일자 사이 평일이 이 일수 이상이면 누락 후보 (주말 제외, 연휴는 한 번 확인 후 EMPTY)
+    @Value("${index.backfill.gap-weekdays:1}")
+    private int gapWeekdays;
+
+    @Value("${index.backfill.gap-concurrency:2}")
+    private int gapConcurrency;
+
+    private ExecutorService gapPool;
+
+    private synchronized ExecutorService gapPool() {
+        if (gapPool == null) {
+            AtomicInteger seq = new AtomicInteger();
+            gapPool = Executors.newFixedThreadPool(Math.max(1, gapConcurrency), r -> {
+                Thread t = new Thread(r, "index-gap-" + seq.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return gapPool;
+    }
+
+    public List<IndexCollectReport> resumeIncomplete(String idxNm, BooleanSupplier active) {
+        List<IndexCollectReport> reports = new ArrayList<>();
+        for (IndexCheckpointDTO job : indexCheckpointDAO.selectIncompleteJobs(idxNm)) {
+            System.out.println("[" + idxNm + "] 미완료 수집 재개 " + job.getBeginDt() + "~" + job.getEndDt());
+            reports.add(indexService.collectRange(idxNm, job.getBeginDt(), job.getEndDt(), active));
+        }
+        if (!reports.isEmpty()) indexService.refreshCaches(idxNm);
+        return reports;
+    }
+
+    public List<IndexGapDTO> findGaps(String idxNm) {
+        String startDt = indexService.getStartDate(idxNm);
+        return indexCheckpointDAO.selectGaps(idxNm, startDt, gapWeekdays);
+    }
+
+    /**
+     * 누락 구간을 병렬로 다시 수집. 구간별 결과(rows 또는 error)를 반환한다.
+     * active 가 false 가 되면(리스 상실) 진행 중인 구간은 중단되고 남은 구간도 시작하지 않는다.
+     */
+    public Map<String, Object> repairGaps(String idxNm, BooleanSupplier active) {
+        List<IndexGapDTO> gaps = findGaps(idxNm);
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (gaps.isEmpty()) return result;
+
+        System.out.println("[" + idxNm + "] 누락 구간 " + gaps.size() + "개 보충 시작");
+        Map<String, Future<IndexCollectReport>> futures = new LinkedHashMap<>();
+        for (IndexGapDTO gap : gaps) {
+            futures.put(gap.getGapFrom() + "~" + gap.getGapTo(),
+                    gapPool().submit(() -> fillGap(idxNm, gap, active)));
+        }
+
+        for (Map.Entry<String, Future<IndexCollectReport>> e : futures.entrySet()) {
+            try {
+                IndexCollectReport report = e.getValue().get();
+                result.put(e.getKey(), report.getPages() == 0 ? "EMPTY" : report.getRows() + " rows");
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception ex) {
+                Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                System.err.println("[" + idxNm + "] 누락 구간 " + e.getKey() + " 보충 실패: " + cause.getMessage());
+                result.put(e.getKey(), "FAILED: " + cause.getMessage());
+            }
+        }
+        // 모든 구간이 끝난 뒤 한 번만 갱신 (구간별 갱신이 서로 엇갈려 캐시 버전이 되돌아가지 않도록)
+        indexService.refreshCaches(idxNm);
+        return result;
+    }
+
+    private IndexCollectReport fillGap(String idxNm, IndexGapDTO gap, BooleanSupplier active) {
+        if (!active.getAsBoolean()) throw new IllegalStateException("작업 리스 상실 - 구간 보충 건너뜀");
+        IndexCollectReport report = indexService.collectRange(idxNm, gap.getGapFrom(), gap.getGapTo(), active);
+        if (report.getPages() == 0) {
+            // 실제로 데이터가 없는 구간 → 다음 스캔에서 제외
+            indexCheckpointDAO.mergePages(List.of(
+                    new IndexCheckpointDTO(idxNm, gap.getGapFrom(), gap.getGapTo(), 0, 0, "EMPTY")));
+        }
+        return report;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (gapPool != null) gapPool.shutdownNow();
+    }
+}
@@ -4,33 +4,212 @@ package com.boot.service;
 
 import com.boot.dao.IndexDAO;
 import com.boot.dto.IndexDataDTO;
+import com.boot.cache.CacheVersions;
+import com.boot.index.IndexPoint;
+import com.boot.index.IndexRegistry;
+import com.boot.index.IndexSeries;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service // 반드시 @Service로 등록해야 Spring Bean으로 인식되어 AOP 프록시가 적용됩니다.
 public class IndexReadService {
 
     @Autowired private IndexDAO indexDAO;
-    
-    private static final String KOSPI_CACHE_NAME = "kospiHistoryCache";
-    private static final String KOSDAQ_CACHE_NAME = "kosdaqHistoryCache";
-    private static final String KOSPI_CACHE_KEY = "'kospi_all'";
-    private static final String KOSDAQ_CACHE_KEY = "'kosdaq_all'";
 
+    @Autowired private IndexRegistry indexRegistry;
 
-    // KOSPI 조회 (이제 이 메서드가 외부에 의해 호출되면 @Cacheable이 확실히 작동합니다.)
-    @Cacheable(value = KOSPI_CACHE_NAME, key = KOSPI_CACHE_KEY)
-    public List<IndexDataDTO> getKospiTimeSeriesData() {
-        System.out.println("⭐️ [Cache Miss] DB에서 KOSPI 히스토리 조회 중 (1457건 로드)...");
-        return indexDAO.selectKospiHistory(); // 1457건 로드 가정
+    // 캐시 키 = 지수 key@데이터 버전 (최신 기준일자-행 수)
+    @Autowired private CacheVersions cacheVersions;
+
+    @Autowired private CacheManager cacheManager;
+
+    // 모든 지수가 캐시 하나를 공유 (키 = 지수 key@버전, CacheVersions)
+    public static final String HISTORY_CACHE_NAME = "indexHistoryCache";
+
+    public static final String KOSPI = "kospi";
+    public static final String KOSDAQ = "kosdaq";
+
+    // 범위 조회용 히스토리 메모리 사본 (지수 key 별, 수집 후 증분 갱신)
+    private final Map<String, IndexSeries> seriesByIndex = new ConcurrentHashMap<>();
+
+    // 메모리 사본을 맞춘 히스토리 캐시 버전 (지수 key 별)
+    // 수집은 리스를 얻은 노드에서만 돌므로, 다른 노드는 조회 시 CacheVersions 와 비교해 따라잡는다
+    private final Map<String, String> seriesVersions = new ConcurrentHashMap<>();
+
+    // 범위 조회 1회 최대 포인트 수 (화면 해상도 이상은 의미 없음)
+    @Value("${index.history.max-points:2000}")
+    private int maxPointsLimit;
+
+
+    // 지수 전체 히스토리 (이제 이 메서드가 외부에 의해 호출되면 @Cacheable이 확실히 작동합니다.)
+    // sync = true: 같은 노드의 동시 미스는 1회만 조회, stale-while-revalidate 대상
+    @Cacheable(value = HISTORY_CACHE_NAME, key = "@cacheVersions.key('" + HISTORY_CACHE_NAME + "', #index)", sync = true)
+    public List<IndexDataDTO> getTimeSeriesData(String index) {
+        System.out.println("⭐️ [Cache Miss] DB에서 " + index + " 히스토리 조회 중...");
+        return indexDAO.selectHistory(indexRegistry.require(index).idxNm());
+    }
+
+    /**
+     * refresh-ahead: 수집 직후 새 히스토리를 새 버전 키에 먼저 채운 뒤 버전을 올린다.
+     * 읽는 쪽은 버전이 바뀌는 순간에도 채워진 키만 보므로 클러스터 전체 콜드 미스가 없다.
+     * 이전 버전 키는 지우지 않고 TTL 로 만료시킨다.
+     */
+    public List<IndexDataDTO> refreshTimeSeriesData(String index) {
+        List<IndexDataDTO> rows = indexDAO.selectHistory(indexRegistry.require(index).idxNm());
+        String version = dataVersion(rows);
+        Cache cache = cacheManager.getCache(HISTORY_CACHE_NAME);
+        if (cache != null) cache.put(index + "@" + version, rows);
+        cacheVersions.bump(HISTORY_CACHE_NAME, index, version);
+        System.out.println("⭐️ [Cache Refresh] " + index + " 히스토리 캐시 버전 " + version);
+        return rows;
+    }
+
+    // 최초 기동 등 버전이 아직 없을 때만 채움 (이미 있으면 다른 노드가 채워 둔 캐시를 그대로 사용)
+    public void warmTimeSeriesData(String index) {
+        if (!cacheVersions.exists(HISTORY_CACHE_NAME, index)) {
+            refreshTimeSeriesData(index);
+        }
+    }
+
+    // 데이터 버전 = 최신 기준일자-행 수 (하루 1행씩 늘어나므로 수집이 있으면 바뀜)
+    static String dataVersion(List<IndexDataDTO> rows) {
+        if (rows.isEmpty()) return "empty";
+        return rows.get(rows.size() - 1).getBasDt() + "-" + rows.size();
+    }
+
+    // ================= 범위 + 다운샘플링 조회 =================
+
+    public boolean supportsIndex(String index) {
+        return indexRegistry.supports(index);
+    }
+
+    /**
+     * [from, to] (yyyyMMdd, 생략 시 전체) 구간을 최대 maxPoints 개로 LTTB 다운샘플링해 반환
+     */
+    public Map<String, Object> getHistoryRange(String index, String from, String to, int maxPoints) {
+        IndexSeries series = getSeries(index);
+        int fromDt = from == null ? 0 : IndexSeries.toInt(from);
+        int toDt = to == null ? Integer.MAX_VALUE : IndexSeries.toInt(to);
+        if (fromDt < 0 || toDt < 0) {
+            throw new IllegalArgumentException("from/to 는 yyyyMMdd 형식이어야 합니다.");
+        }
+        int limit = Math.max(3, Math.min(maxPoints, maxPointsLimit));
+
+        List<IndexPoint> points = series.range(fromDt, toDt, limit);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("index", index);
+        result.put("from", points.isEmpty() ? from : points.get(0).basDt());
+        result.put("to", points.isEmpty() ? to : points.get(points.size() - 1).basDt());
+        result.put("totalPoints", series.count(fromDt, toDt));
+        result.put("points", points);
+        return result;
+    }
+
+    /**
+     * sinceBasDt(포함) 이후 포인트를 다운샘플링 없이 반환 (프론트 증분 동기화용)
+     * 당일이 재수집될 수 있으므로 클라이언트는 sinceBasDt 이상 포인트를 교체/추가한다.
+     */
+    public Map<String, Object> getHistorySince(String index, String sinceBasDt) {
+        IndexSeries series = getSeries(index);
+        int sinceDt = IndexSeries.toInt(sinceBasDt);
+        if (sinceDt < 0) {
+            throw new IllegalArgumentException("sinceBasDt 는 yyyyMMdd 형식이어야 합니다.");
+        }
+
+        List<IndexPoint> points = series.range(sinceDt, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("index", index);
+        result.put("sinceBasDt", sinceBasDt);
+        result.put("lastBasDt", series.lastBasDt());
+        result.put("totalPoints", series.size());
+        result.put("points", points);
+        return result;
+    }
+
+    // 히스토리 ETag (최신 기준일자 + 행 수 기반, 조건부 요청 304 판단용)
+    public String getETag(String index) {
+        return "\"" + index + "-" + getSeries(index).etag() + "\"";
+    }
+
+    public long getLastModified(String index) {
+        return getSeries(index).getModifiedAt();
+    }
+
+    /**
+     * 메모리 히스토리. 히스토리 캐시 버전(CacheVersions, 노드 메모 local-ttl-ms)이 바뀌었으면
+     * 마지막 날짜(포함) 이후만 조회해 이어붙인다. 수집하지 않은 노드도 최대 local-ttl-ms 뒤 반영된다.
+     */
+    public IndexSeries getSeries(String index) {
+        String version = cacheVersions.current(HISTORY_CACHE_NAME, index);
+        IndexSeries series = seriesByIndex.get(index);
+        if (series != null && version.equals(seriesVersions.get(index))) return series;
+
+        return seriesByIndex.compute(index, (key, current) -> {
+            IndexSeries next = current == null ? loadSeries(key) : catchUp(key, current, seriesVersions.get(key), version);
+            seriesVersions.put(key, version);
+            return next;
+        });
+    }
+
+    private IndexSeries loadSeries(String index) {
+        System.out.println("⭐️ [Series Load] DB에서 " + index + " 히스토리 메모리 적재 중...");
+        return IndexSeries.from(indexDAO.selectHistory(indexRegistry.require(index).idxNm()));
+    }
+
+    /**
+     * 마지막 날짜 이후 행만 이어붙여도 되는지 데이터 버전(최신 기준일자-행 수)의 행 수로 확인한다.
+     * 늘어난 행 수가 이어붙인 행 수와 다르면 (누락 구간 보충처럼 마지막 날짜 이전 행이 추가/변경됨,
+     * 또는 버전이 데이터 버전이 아닌 수동 무효화) 전체 다시 적재.
+     */
+    private IndexSeries catchUp(String index, IndexSeries series, String fromVersion, String toVersion) {
+        String last = series.lastBasDt();
+        long fromRows = versionRowCount(fromVersion);
+        long toRows = versionRowCount(toVersion);
+        if (last == null || fromRows < 0 || toRows < 0) return loadSeries(index);
+
+        List<IndexDataDTO> newer = indexDAO.selectHistorySince(indexRegistry.require(index).idxNm(), last);
+        long appended = newer.stream().filter(r -> last.compareTo(String.valueOf(r.getBasDt())) < 0).count();
+        if (toRows != fromRows + appended) return loadSeries(index);
+        return series.merge(newer);
+    }
+
+    // dataVersion 의 행 수, 데이터 버전 형식이 아니면 -1
+    static long versionRowCount(String version) {
+        if (version == null) return -1;
+        int sep = version.lastIndexOf('-');
+        if (sep < 0) return -1;
+        try {
+            return Long.parseLong(version.substring(sep + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 수집 후 호출 (refreshTimeSeriesData 로 버전을 올린 뒤): 이미 적재된 지수만 바로 따라잡는다.
+     * 아직 적재 전이면 다음 조회 때 전체 적재.
+     */
+    public void refreshSeries(String index) {
+        if (seriesByIndex.containsKey(index)) getSeries(index);
+    }
+
+    public void invalidateSeries(String index) {
+        seriesByIndex.remove(index);
+        seriesVersions.remove(index);
     }
 
-    // KOSDAQ 조회
-    @Cacheable(value = KOSDAQ_CACHE_NAME, key = KOSDAQ_CACHE_KEY)
-    public List<IndexDataDTO> getKosdaqTimeSeriesData() {
-        System.out.println("⭐️ [Cache Miss] DB에서 KOSDAQ 히스토리 조회 중...");
-        return indexDAO.selectKosdaqHistory();
+    public void invalidateAllSeries() {
+        seriesByIndex.clear();
+        seriesVersions.clear();
     }
-}
\ No newline at end of file
+}
@@ -1,20 +1,28 @@
 package com.boot.service;
 
+import com.boot.dao.IndexCheckpointDAO;
 import com.boot.dao.IndexDAO;
+import com.boot.dto.IndexCheckpointDTO;
 import com.boot.dto.IndexDataDTO;
+import com.boot.index.IndexBatchWriter;
+import com.boot.index.IndexCollectReport;
+import com.boot.index.IndexCollector;
+import com.boot.index.IndexDefinition;
+import com.boot.index.IndexRegistry;
+import com.boot.index.IndexWriteStats;
+import com.boot.index.IndexXmlParser;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
-import org.w3c.dom.*;
 
-import javax.annotation.PostConstruct;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.ByteArrayInputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.springframework.web.util.UriComponentsBuilder;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,74 +36,47 @@ public class IndexService {
     @Autowired
     private RestTemplate restTemplate;
 
+    // 대상 지수 목록 (index.targets)
     @Autowired
-    private CacheEvictService cacheEvictService;
+    private IndexRegistry indexRegistry;
+
+    // 페이지 단위 수집 체크포인트
+    @Autowired
+    private IndexCheckpointDAO indexCheckpointDAO;
+
+    // 히스토리 캐시 교체 / 범위 조회용 메모리 히스토리 (수집 후 증분 갱신)
+    @Autowired
+    private IndexReadService indexReadService;
+
+    @Autowired
+    private IndexCollector indexCollector;
+
+    // 수집분만 지표에 이어서 계산
+    @Autowired
+    private IndicatorService indicatorService;
+
+    // XML → IndexDataDTO (StAX)
+    @Autowired
+    private IndexXmlParser indexXmlParser;
+
+    // MERGE JDBC batch 저장
+    @Autowired
+    private IndexBatchWriter indexBatchWriter;
 
     // ✅ 환경변수 주입
     @Value("${market.api.service-key}")
     private String SERVICE_KEY;
 
-    private static final String API_ENDPOINT =
-            "https://apis.data.go.kr/1160100/service/GetMarketIndexInfoService/getStockMarketIndex";
+    // 테스트 시 로컬 스텁 서버로 교체 가능
+    @Value("${market.api.endpoint:https://apis.data.go.kr/1160100/service/GetMarketIndexInfoService/getStockMarketIndex}")
+    private String API_ENDPOINT;
 
     private static final int ROWS_PER_PAGE = 500;
     private static final DateTimeFormatter DATE_FORMATTER =
             DateTimeFormatter.ofPattern("yyyyMMdd");
 
-    // ================= 상수 =================
-    private static final String TARGET_INDEX = "코스피";
-    private static final String TARGET_INDEX_KOSDAQ = "코스닥";
-
-    private static final String START_DATE = "19800104";
-    private static final String START_DATE_KOSDAQ = "19960701";
-
-    // ================= XML 파싱 =================
-    private String getTagValue(String tag, Element element) {
-        NodeList nodeList = element.getElementsByTagName(tag);
-        if (nodeList.getLength() > 0) {
-            return nodeList.item(0).getTextContent();
-        }
-        return null;
-    }
-
-    private List<IndexDataDTO> parseXml(String xmlData) {
-        List<IndexDataDTO> resultList = new ArrayList<>();
-        try {
-            DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
-            Document doc = builder.parse(new ByteArrayInputStream(xmlData.getBytes("UTF-8")));
-            doc.getDocumentElement().normalize();
-
-            int totalCount = Integer.parseInt(
-                    doc.getElementsByTagName("totalCount").item(0).getTextContent()
-            );
-
-            NodeList itemList = doc.getElementsByTagName("item");
-
-            for (int i = 0; i < itemList.getLength(); i++) {
-                Element e = (Element) itemList.item(i);
-                IndexDataDTO dto = new IndexDataDTO();
-
-                dto.setIdxNm(getTagValue("idxNm", e));
-                dto.setBasDt(getTagValue("basDt", e));
-
-                try { dto.setClpr(Double.parseDouble(getTagValue("clpr", e))); } catch (Exception ignored) {}
-                try { dto.setVs(Double.parseDouble(getTagValue("vs", e))); } catch (Exception ignored) {}
-                try { dto.setFltRt(Double.parseDouble(getTagValue("fltRt", e))); } catch (Exception ignored) {}
-                try { dto.setMkp(Double.parseDouble(getTagValue("mkp", e))); } catch (Exception ignored) {}
-                try { dto.setHipr(Double.parseDouble(getTagValue("hipr", e))); } catch (Exception ignored) {}
-                try { dto.setLopr(Double.parseDouble(getTagValue("lopr", e))); } catch (Exception ignored) {}
-                try { dto.setTrqu(Long.parseLong(getTagValue("trqu", e))); } catch (Exception ignored) {}
-                try { dto.setTrPrc(Long.parseLong(getTagValue("trPrc", e))); } catch (Exception ignored) {}
-                try { dto.setLstgMrktTotAmt(Long.parseLong(getTagValue("lstgMrktTotAmt", e))); } catch (Exception ignored) {}
-
-                if (i == 0) dto.setTotalCount(totalCount);
-                resultList.add(dto);
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        return resultList;
-    }
+    // 지수별 마지막 수집 리포트
+    private final Map<String, IndexCollectReport> lastReports = new ConcurrentHashMap<>();
 
     // ================= URL 생성 =================
     private String buildApiUrl(String idxNm, int pageNo, int rows, String begin, String end) {
@@ -111,89 +92,148 @@ public class IndexService {
                 .toUriString();
     }
 
-    // ================= 서버 시작 자동 동기화 =================
-    @PostConstruct
-    public void autoSync() {
-        updateMissingIndexData(
-                TARGET_INDEX,
-                START_DATE,
-                indexDAO.countIndexData(TARGET_INDEX),
-                indexDAO.selectLatestBasDt(TARGET_INDEX)
-        );
-
-        updateMissingIndexData(
-                TARGET_INDEX_KOSDAQ,
-                START_DATE_KOSDAQ,
-                indexDAO.countKosdaqIndexData(TARGET_INDEX_KOSDAQ),
-                indexDAO.selectLatestKosdaqBasDt(TARGET_INDEX_KOSDAQ)
-        );
+    // ================= 누락분 동기화 (IndexSyncService 가 기동 후 백그라운드로 호출) =================
+    public List<String> getSyncTargets() {
+        return indexRegistry.names();
+    }
+
+    // 마지막 저장일 다음 날 ~ 오늘 수집, 이미 최신이면 null
+    // active: 작업 리스 보유 여부 (false 가 되면 페이지/배치 사이에서 중단)
+    public IndexCollectReport syncMissing(String idxNm, BooleanSupplier active) {
+        IndexDefinition def = indexRegistry.requireName(idxNm);
+        IndexCollectReport report = updateMissingIndexData(idxNm, def.startDate(), indexDAO.selectLatestBasDt(idxNm),
+                active);
+        if (report != null) refreshCaches(idxNm);
+        return report;
     }
 
     // ================= 핵심 수집 로직 =================
     @Transactional
-    protected void updateMissingIndexData(String idxNm, String start, int count, String latest) {
+    protected IndexCollectReport updateMissingIndexData(String idxNm, String start, String latest,
+                                                        BooleanSupplier active) {
         String begin = start;
 
-        if (count > 0 && latest != null) {
+        if (latest != null) {
             begin = LocalDate.parse(latest, DATE_FORMATTER)
                     .plusDays(1)
                     .format(DATE_FORMATTER);
         }
 
         String today = LocalDate.now().format(DATE_FORMATTER);
-        if (begin.compareTo(today) > 0) return;
+        if (begin.compareTo(today) > 0) return null;
 
-        collectAndSave(idxNm, begin, today);
+        return collectAndSave(idxNm, begin, today, active);
     }
 
+    /**
+     * [begin, end] 구간 수집.
+     * (지수, begin, end) 단위로 저장된 페이지를 체크포인트로 남겨, 중간에 실패하면
+     * 다음 실행 때 같은 구간의 남은 페이지만 다시 수집한다. (IndexBackfillService.resumeIncomplete)
+     * 구간에 데이터가 없으면 pages=0 리포트, 건수 조회가 재시도 후에도 실패하면 예외.
+     * 캐시 갱신은 하지 않는다 - 호출하는 작업이 끝난 뒤 refreshCaches 를 지수당 한 번 호출할 것.
+     * (구간별로 병렬 갱신하면 늦게 끝난 쪽이 더 오래된 히스토리로 캐시 버전을 덮어쓸 수 있음)
+     */
     @Transactional
-    protected void collectAndSave(String idxNm, String begin, String end) {
-        String firstUrl = buildApiUrl(idxNm, 1, 1, begin, end);
-        String xml = restTemplate.getForObject(firstUrl, String.class);
-        List<IndexDataDTO> init = parseXml(xml);
+    protected IndexCollectReport collectAndSave(String idxNm, String begin, String end, BooleanSupplier active) {
+        List<IndexDataDTO> init;
+        try {
+            init = indexCollector.withRetry(idxNm + " count", () -> indexXmlParser.parse(
+                    restTemplate.getForObject(buildApiUrl(idxNm, 1, 1, begin, end), String.class)));
+        } catch (Exception e) {
+            throw new IllegalStateException("[" + idxNm + "] 지수 수집 건수 조회 실패 (" + begin + "~" + end + "): "
+                    + e.getMessage(), e);
+        }
 
-        if (init.isEmpty()) return;
+        if (init.isEmpty()) return IndexCollectReport.empty(idxNm);
 
         int total = init.get(0).getTotalCount();
         int pages = (int) Math.ceil((double) total / ROWS_PER_PAGE);
-
-        for (int p = 1; p <= pages; p++) {
-            String url = buildApiUrl(idxNm, p, ROWS_PER_PAGE, begin, end);
-            List<IndexDataDTO> list =
-                    parseXml(restTemplate.getForObject(url, String.class));
-
-            for (IndexDataDTO dto : list) {
-                if (idxNm.equals(TARGET_INDEX)) {
-                    indexDAO.insertOrUpdateIndexData(dto);
-                } else {
-                    indexDAO.insertOrUpdateKosdaqIndexData(dto);
-                }
-            }
+        Set<Integer> done = new HashSet<>(indexCheckpointDAO.selectDonePages(idxNm, begin, end));
+        List<Integer> pageNos = IntStream.rangeClosed(1, pages)
+                .filter(p -> !done.contains(p))
+                .boxed()
+                .collect(Collectors.toList());
+        if (!done.isEmpty()) {
+            System.out.println("[" + idxNm + "] 체크포인트 이어서 수집 " + begin + "~" + end
+                    + " (완료 " + done.size() + "/" + pages + " 페이지)");
         }
 
-        if (idxNm.equals(TARGET_INDEX)) {
-            cacheEvictService.evictKospiHistoryCache();
+        // 페이지 동시 요청 → 파싱 → 배치 저장 파이프라인
+        IndexWriteStats writeStats = new IndexWriteStats();
+        IndexCollectReport report = indexCollector.collect(idxNm, pageNos,
+                p -> restTemplate.getForObject(buildApiUrl(idxNm, p, ROWS_PER_PAGE, begin, end), String.class),
+                indexXmlParser::parse,
+                rows -> indexBatchWriter.write(rows, writeStats, active),
+                saved -> checkpoint(idxNm, begin, end, pages, saved, "DONE"),
+                active);
+        report.setWrite(writeStats);
+
+        if (report.getFailedPages().isEmpty()) {
+            indexCheckpointDAO.deleteJob(idxNm, begin, end);
         } else {
-            cacheEvictService.evictKosdaqHistoryCache();
+            checkpoint(idxNm, begin, end, pages, report.getFailedPages(), "FAILED");
         }
+
+        lastReports.put(idxNm, report);
+        System.out.println("📈 지수 수집 완료 " + report
+                + " / 누적 파싱 " + indexXmlParser.getParsedItems() + "건, 필드 오류 " + indexXmlParser.getFieldErrors()
+                + "건, 응답 오류 " + indexXmlParser.getDocumentErrors() + "건");
+        return report;
     }
 
-    // ================= 단일 날짜 수집 =================
-    @Transactional
-    public void saveSingleDayData(String date) {
-        collectAndSave(TARGET_INDEX, date, date);
+    // 수집 작업 종료 후 히스토리 캐시 / 메모리 시리즈 / 지표 갱신 (캐시는 비우지 않고 새 값으로 교체, refresh-ahead)
+    public void refreshCaches(String idxNm) {
+        String key = indexRegistry.requireName(idxNm).key();
+        indexReadService.refreshTimeSeriesData(key);
+        indexReadService.refreshSeries(key);
+        indicatorService.refresh(key);
+    }
+
+    // 체크포인트 기록 실패는 수집을 멈추지 않음 (다음 실행에서 해당 페이지를 다시 받을 뿐)
+    private void checkpoint(String idxNm, String begin, String end, int totalPages, List<Integer> pageNos, String status) {
+        if (pageNos.isEmpty()) return;
+        List<IndexCheckpointDTO> rows = pageNos.stream()
+                .map(p -> new IndexCheckpointDTO(idxNm, begin, end, p, totalPages, status))
+                .collect(Collectors.toList());
+        try {
+            indexCheckpointDAO.mergePages(rows);
+        } catch (Exception e) {
+            System.err.println("[" + idxNm + "] 체크포인트 저장 실패: " + e.getMessage());
+        }
+    }
+
+    // 임의 구간 수집 (누락 구간 보충 / 중단된 작업 재개용, 캐시 갱신은 호출 측에서 refreshCaches)
+    public IndexCollectReport collectRange(String idxNm, String begin, String end, BooleanSupplier active) {
+        return collectAndSave(idxNm, begin, end, active);
+    }
+
+    // 지수별 최초 수집 시작일
+    public String getStartDate(String idxNm) {
+        return indexRegistry.requireName(idxNm).startDate();
     }
 
+    public Map<String, IndexCollectReport> getLastCollectReports() {
+        return lastReports;
+    }
+
+    // ================= 단일 날짜 수집 =================
     @Transactional
-    public void saveSingleKosdaqDayData(String date) {
-        collectAndSave(TARGET_INDEX_KOSDAQ, date, date);
+    public void saveSingleDayData(String idxNm, String date) {
+        collectAndSave(idxNm, date, date, () -> true);
+        refreshCaches(idxNm);
     }
 
     // ================= 최신 지수 조회 =================
+    // 지수 key → 최신 1행 (전체 지수를 쿼리 1회로)
     public Map<String, Object> getLatestIndexData() {
+        Map<String, IndexDataDTO> latest = new HashMap<>();
+        for (IndexDataDTO row : indexDAO.selectLatestByIndex(indexRegistry.names())) {
+            latest.put(row.getIdxNm(), row);
+        }
         Map<String, Object> map = new HashMap<>();
-        map.put("kospi", indexDAO.selectLatestKospi());
-        map.put("kosdaq", indexDAO.selectLatestKosdaq());
+        for (IndexDefinition def : indexRegistry.all()) {
+            map.put(def.key(), latest.get(def.idxNm()));
+        }
         return map;
     }
 }
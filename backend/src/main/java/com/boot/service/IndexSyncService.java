@@ -0,0 +1,154 @@
+package com.boot.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.boot.dto.IndexJobRunDTO;
+import com.boot.index.IndexCollectReport;
+import com.boot.index.IndexSyncCompletedEvent;
+import com.boot.scheduler.IndexJobRunner;
+
+/**
+ * 지수 누락분 동기화를 기동 완료 후 백그라운드 작업으로 실행
+ *
+ * - 서버 기동은 API/DB 작업을 기다리지 않는다. (기존 @PostConstruct autoSync 대체)
+ * - 지수별로 미완료 작업 재개 → 최신분 수집 → 누락 구간 보충 순서
+ * - 지수별 작업은 IndexJobRunner 리스 안에서 실행 (다른 노드가 실행 중이면 SKIPPED)
+ * - 진행 상태는 getStatus() 로 조회 (/admin/index/sync), ready 는 첫 동기화 종료 여부
+ * - 종료 시 IndexSyncCompletedEvent 발행 → 캐시 무효화는 그 이후에만 수행
+ */
+@Service
+public class IndexSyncService {
+
+    public enum State { IDLE, RUNNING, DONE, FAILED }
+
+    @Autowired
+    private IndexService indexService;
+
+    @Autowired
+    private IndexBackfillService indexBackfillService;
+
+    @Autowired
+    private IndexJobRunner indexJobRunner;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "index-sync");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 상태는 작업 스레드만 변경, 조회는 스냅샷
+    private volatile State state = State.IDLE;
+    private volatile boolean ready;
+    private volatile String currentIndex;
+    private volatile long startedAt;
+    private volatile long finishedAt;
+    private final Map<String, Object> indexStates = new LinkedHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        start();
+    }
+
+    // 이미 실행 중이면 false
+    public synchronized boolean start() {
+        if (state == State.RUNNING) return false;
+        state = State.RUNNING;
+        startedAt = System.currentTimeMillis();
+        finishedAt = 0;
+        synchronized (indexStates) {
+            indexStates.clear();
+        }
+        executor.execute(this::run);
+        return true;
+    }
+
+    private void run() {
+        List<String> synced = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+
+        for (String idxNm : indexService.getSyncTargets()) {
+            currentIndex = idxNm;
+            putIndexState(idxNm, "RUNNING", null, null, null);
+            try {
+                IndexCollectReport[] report = new IndexCollectReport[1];
+                Map<String, Object> gaps = new LinkedHashMap<>();
+                IndexJobRunDTO run = indexJobRunner.run(idxNm, IndexJobRunner.TRIGGER_STARTUP, leaseHeld -> {
+                    indexBackfillService.resumeIncomplete(idxNm, leaseHeld);
+                    report[0] = indexService.syncMissing(idxNm, leaseHeld);
+                    gaps.putAll(indexBackfillService.repairGaps(idxNm, leaseHeld));
+                    return report[0];
+                });
+                if ("DONE".equals(run.getStatus())) {
+                    putIndexState(idxNm, report[0] == null ? "UP_TO_DATE" : "DONE", report[0], gaps, null);
+                } else {
+                    putIndexState(idxNm, run.getStatus(), report[0], gaps, null);
+                }
+                synced.add(idxNm);
+            } catch (Exception e) {
+                System.err.println("[" + idxNm + "] 지수 동기화 실패: " + e.getMessage());
+                putIndexState(idxNm, "FAILED", null, null, e.getMessage());
+                failed.add(idxNm);
+            }
+        }
+
+        currentIndex = null;
+        finishedAt = System.currentTimeMillis();
+        state = failed.isEmpty() ? State.DONE : State.FAILED;
+        // 실패해도 기존 데이터로 서비스는 가능하므로 ready 처리 (상태는 FAILED 로 노출)
+        ready = true;
+        System.out.println("📈 지수 동기화 종료 " + state + " (" + (finishedAt - startedAt) + " ms)");
+
+        eventPublisher.publishEvent(new IndexSyncCompletedEvent(synced, failed));
+    }
+
+    private void putIndexState(String idxNm, String indexState, IndexCollectReport report,
+                               Map<String, Object> gaps, String error) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("state", indexState);
+        if (report != null) m.put("report", report);
+        if (gaps != null && !gaps.isEmpty()) m.put("gaps", gaps);
+        if (error != null) m.put("error", error);
+        synchronized (indexStates) {
+            indexStates.put(idxNm, m);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("state", state);
+        result.put("ready", ready);
+        result.put("currentIndex", currentIndex);
+        result.put("startedAt", startedAt == 0 ? null : startedAt);
+        result.put("finishedAt", finishedAt == 0 ? null : finishedAt);
+        result.put("elapsedMs", startedAt == 0 ? 0 : (finishedAt == 0 ? System.currentTimeMillis() : finishedAt) - startedAt);
+        synchronized (indexStates) {
+            result.put("indices", new LinkedHashMap<>(indexStates));
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,89 @@
+package com.boot.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.boot.index.IndexSeries;
+import com.boot.index.IndicatorRange;
+import com.boot.index.IndicatorSeries;
+
+/**
+ * 지수 기술적 지표 (IndexReadService 의 메모리 히스토리 기반)
+ *
+ * 처음 조회 시 전체 히스토리로 계산하고, 이후 수집분은 sync() 로 뒤에만 이어서 계산한다.
+ */
+@Service
+public class IndicatorService {
+
+    @Autowired
+    private IndexReadService indexReadService;
+
+    @Value("${index.history.max-points:2000}")
+    private int maxPointsLimit;
+
+    private final Map<String, IndicatorSeries> indicators = new ConcurrentHashMap<>();
+
+    public Map<String, Object> getIndicators(String index, String from, String to, int maxPoints) {
+        int fromDt = from == null ? 0 : IndexSeries.toInt(from);
+        int toDt = to == null ? Integer.MAX_VALUE : IndexSeries.toInt(to);
+        if (fromDt < 0 || toDt < 0) {
+            throw new IllegalArgumentException("from/to 는 yyyyMMdd 형식이어야 합니다.");
+        }
+        IndicatorRange range = sync(index).range(fromDt, toDt, Math.max(3, Math.min(maxPoints, maxPointsLimit)));
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("index", index);
+        result.put("totalPoints", range.getTotalPoints());
+        result.put("basDt", range.getBasDt());
+        result.put("close", range.getClose());
+        result.put("ma5", range.getMa5());
+        result.put("ma20", range.getMa20());
+        result.put("ma60", range.getMa60());
+        result.put("ma120", range.getMa120());
+        result.put("ema12", range.getEma12());
+        result.put("ema26", range.getEma26());
+        result.put("rsi14", range.getRsi14());
+        result.put("bbUpper", range.getBbUpper());
+        result.put("bbMiddle", range.getBbMiddle());
+        result.put("bbLower", range.getBbLower());
+        return result;
+    }
+
+    // 수집 후 호출: 이미 계산해 둔 지수만 이어서 계산 (아직 조회 전이면 첫 조회 때 계산)
+    public void refresh(String index) {
+        if (indicators.containsKey(index)) sync(index);
+    }
+
+    /**
+     * 메모리 히스토리에 새로 붙은 행만 지표에 반영 (행당 O(1)).
+     * 마지막 날짜 이전 구간이 달라졌으면(재적재 등) 처음부터 다시 계산.
+     */
+    public IndicatorSeries sync(String index) {
+        IndexSeries series = indexReadService.getSeries(index);
+        return indicators.compute(index, (key, current) -> {
+            IndicatorSeries target = current;
+            int start = 0;
+            if (target != null && target.size() > 0) {
+                int last = target.lastBasDt();
+                start = series.lowerBound(last);
+                // last 이전 행 수가 같아야 이어붙일 수 있음
+                if (start != target.size() - 1) {
+                    target = null;
+                    start = 0;
+                }
+            }
+            if (target == null) {
+                target = new IndicatorSeries(series.size() + 64);
+            }
+            for (int i = start; i < series.size(); i++) {
+                target.append(series.basDtAt(i), series.epochDayAt(i), series.clprAt(i));
+            }
+            return target;
+        });
+    }
+}
@@ -0,0 +1,108 @@
+package com.boot.service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.boot.cache.CachePolicy;
+import com.boot.cache.CachePolicyRegistry;
+import com.boot.dao.StockNewsDAO;
+
+/**
+ * 뉴스 적재 → 종목별 캐시 무효화
+ *
+ * 뉴스 크롤러(Python)는 STOCK_NEWS 에 직접 INSERT/UPDATE 하므로, poll-ms 마다 최근 lookback-minutes 분 안에
+ * 적재/수정된 행을 종목별 서명(건수:최대 NEWS_ID:최종 수정 시각)으로 읽어 이전 조회와 달라진 종목을 찾는다.
+ * (늦게 커밋된 행도 lookback 안이면 다음 조회에서 잡힘) POST /api/stocks/news 적재는 이벤트로 바로 들어온다.
+ *
+ * 바뀐 종목 코드를 모아 두었다가 flush-ms 마다 한 번, NEWS_INGEST 정책 캐시마다 SCAN 한 번으로 해당 종목 키만 지운다.
+ * 키 형식은 "{종목코드}" 또는 "{종목코드}:{조건}" 이어야 한다.
+ */
+@Service
+public class NewsCacheInvalidator {
+
+    @Autowired
+    private CachePolicyRegistry cachePolicies;
+
+    @Autowired
+    private CacheInspectionService cacheInspectionService;
+
+    @Autowired
+    private StockNewsDAO stockNewsDAO;
+
+    @Value("${cache.policy.news-ingest.lookback-minutes:10}")
+    private int lookbackMinutes;
+
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    // 직전 조회의 종목별 서명 (lookback 밖으로 나간 종목은 빠짐)
+    private Map<String, String> lastSignatures = Map.of();
+
+    @EventListener
+    public void onNewsIngested(NewsIngestedEvent event) {
+        if (event.stockCode() != null && !event.stockCode().isBlank()) {
+            pending.add(event.stockCode());
+        }
+    }
+
+    // 크롤러 직접 적재/수정 감지
+    @Scheduled(fixedDelayString = "${cache.policy.news-ingest.poll-ms:30000}")
+    public void pollNewsChanges() {
+        List<Map<String, Object>> rows;
+        try {
+            rows = stockNewsDAO.selectRecentNewsChanges(lookbackMinutes);
+        } catch (Exception e) {
+            System.err.println("❌ 뉴스 변경 조회 실패: " + e.getMessage());
+            return;
+        }
+        Map<String, String> signatures = new HashMap<>();
+        for (Map<String, Object> row : rows) {
+            signatures.put(String.valueOf(row.get("STOCK_CODE")), String.valueOf(row.get("SIGNATURE")));
+        }
+        pending.addAll(changedCodes(lastSignatures, signatures));
+        lastSignatures = signatures;
+    }
+
+    // 새로 나타났거나 서명이 바뀐 종목
+    static Set<String> changedCodes(Map<String, String> before, Map<String, String> after) {
+        Set<String> changed = new HashSet<>();
+        after.forEach((code, signature) -> {
+            if (!signature.equals(before.get(code))) changed.add(code);
+        });
+        return changed;
+    }
+
+    @Scheduled(fixedDelayString = "${cache.policy.news-ingest.flush-ms:2000}")
+    public void flush() {
+        if (pending.isEmpty()) return;
+
+        Set<String> codes = new HashSet<>();
+        for (Iterator<String> it = pending.iterator(); it.hasNext(); ) {
+            codes.add(it.next());
+            it.remove();
+        }
+
+        int evicted = 0;
+        for (CachePolicy policy : cachePolicies.byInvalidation(CachePolicy.Invalidation.NEWS_INGEST)) {
+            List<String> keys = cacheInspectionService.evictMatching(policy.name(), "*",
+                    key -> codes.contains(stockCodeOf(key)));
+            evicted += keys.size();
+        }
+        System.out.println("🔥 뉴스 적재 " + codes.size() + "개 종목 캐시 " + evicted + "건 삭제");
+    }
+
+    static String stockCodeOf(String key) {
+        int sep = key.indexOf(':');
+        return sep < 0 ? key : key.substring(0, sep);
+    }
+}
@@ -0,0 +1,5 @@
+package com.boot.service;
+
+// 뉴스 한 건 적재 완료 (종목별 캐시 무효화 대상)
+public record NewsIngestedEvent(String stockCode) {
+}
@@ -0,0 +1,117 @@
+package com.boot.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.boot.dao.StockBarDAO;
+import com.boot.dto.StockBarDTO;
+import com.boot.realtime.StockBarAggregator;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 분봉 저장/조회
+ * - 1초마다 시간 경계가 지난 봉을 닫고
+ * - realtime.bar.flush-interval-ms 마다 닫힌 봉을 batch-size 단위 MERGE 로 저장한다.
+ *   배치가 실패하면 봉 단위로 다시 저장하고, 그래도 실패하는 봉(값 오류 등)은 집계 후 버린다.
+ *   연결 장애처럼 다시 시도하면 될 오류만 대기열로 되돌려 다음 주기에 재시도한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StockBarService {
+
+    private final StockBarAggregator barAggregator;
+    private final StockBarDAO stockBarDAO;
+
+    @Value("${realtime.bar.batch-size:200}")
+    private int batchSize;
+
+    @Value("${realtime.bar.close-grace-ms:2000}")
+    private long closeGraceMillis;
+
+    private final AtomicLong failedBars = new AtomicLong();
+
+    @Scheduled(fixedDelay = 1000)
+    public void closeExpiredBars() {
+        barAggregator.closeExpired(System.currentTimeMillis(), closeGraceMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${realtime.bar.flush-interval-ms:5000}")
+    public void flushClosedBars() {
+        List<StockBarDTO> chunk;
+        while (!(chunk = barAggregator.drainClosed(batchSize)).isEmpty()) {
+            try {
+                stockBarDAO.mergeBars(chunk);
+            } catch (Exception e) {
+                if (isRetryable(e)) {
+                    // DB 장애 시 다음 주기에 다시 시도
+                    System.err.println("분봉 저장 실패 (" + chunk.size() + "건): " + e.getMessage());
+                    barAggregator.requeue(chunk);
+                    return;
+                }
+                System.err.println("분봉 배치 저장 실패(" + chunk.size() + "건) → 봉 단위 저장으로 전환: " + e.getMessage());
+                if (!mergeOneByOne(chunk)) return;
+            }
+        }
+    }
+
+    // 봉 단위 저장 - 연결 장애로 중단하면 남은 봉을 되돌리고 false
+    private boolean mergeOneByOne(List<StockBarDTO> chunk) {
+        for (int i = 0; i < chunk.size(); i++) {
+            StockBarDTO bar = chunk.get(i);
+            try {
+                stockBarDAO.mergeBars(List.of(bar));
+            } catch (Exception e) {
+                if (isRetryable(e)) {
+                    System.err.println("분봉 저장 실패 (" + (chunk.size() - i) + "건): " + e.getMessage());
+                    barAggregator.requeue(chunk.subList(i, chunk.size()));
+                    return false;
+                }
+                failedBars.incrementAndGet();
+                System.err.println("분봉 저장 실패로 버림 [" + bar.getStockCode() + " " + bar.getIntervalMin() + "분 "
+                        + bar.getBarTime() + "]: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    // 다시 시도하면 성공할 수 있는 오류 (연결 실패/타임아웃 등) - 그 외는 같은 데이터로 계속 실패함
+    static boolean isRetryable(Exception e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    public long getFailedBars() {
+        return failedBars.get();
+    }
+
+    /**
+     * 분봉 조회
+     * - open   : 메모리에서 집계 중인 현재 봉
+     * - closed : DB 에 저장된 최근 봉 limit 개 (시간 오름차순)
+     */
+    public Map<String, Object> getBars(String stockCode, int intervalMin, int limit) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("stockCode", stockCode);
+        result.put("interval", intervalMin);
+        result.put("open", barAggregator.getOpenBar(stockCode, intervalMin));
+        result.put("closed", limit > 0
+                ? stockBarDAO.selectRecentBars(stockCode, intervalMin, limit)
+                : List.of());
+        return result;
+    }
+
+    public boolean supportsInterval(int intervalMin) {
+        return barAggregator.supportsInterval(intervalMin);
+    }
+}
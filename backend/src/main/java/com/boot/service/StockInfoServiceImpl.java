@@ -6,9 +6,13 @@ import java.util.Map;
 
 import org.springframework.stereotype.Service;
 
+import com.boot.cache.SingleFlight;
+import com.boot.cache.StockCodeFilter;
 import com.boot.dao.StockInfoDAO;
 import com.boot.dto.StockInfoDTO;
 import com.boot.dto.StockNewsDTO;
+import com.boot.realtime.StockTick;
+import com.boot.realtime.StockTickBuffers;
 
 import lombok.RequiredArgsConstructor;
 
@@ -17,6 +21,11 @@ import lombok.RequiredArgsConstructor;
 public class StockInfoServiceImpl implements StockInfoService {
 
     private final StockInfoDAO stockInfoDAO;
+    private final StockTickBuffers tickBuffers;
+    private final StockCodeFilter stockCodeFilter;
+
+    // 같은 종목 상세 동시 요청은 DB 조회 1회로 합침 (실시간가를 덮어써야 해서 캐시는 하지 않음)
+    private final SingleFlight detailFlight = new SingleFlight();
 
     @Override
     public List<StockInfoDTO> searchStocks(String keyword) {
@@ -25,7 +34,31 @@ public class StockInfoServiceImpl implements StockInfoService {
 
     @Override
     public StockInfoDTO getStockDetail(String stockCode) {
-        return stockInfoDAO.getStockDetail(stockCode);
+        try {
+            return detailFlight.run(stockCode, () -> loadStockDetail(stockCode));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private StockInfoDTO loadStockDetail(String stockCode) {
+        StockInfoDTO dto = stockInfoDAO.getStockDetail(stockCode);
+        if (dto == null) {
+            // 목록에는 있었지만 없는 종목 → 잠시 동안 DB 조회 없이 거절
+            stockCodeFilter.markMissing(stockCode);
+            return null;
+        }
+
+        // DB 반영(write-behind) 전이라도 실시간 최신가가 있으면 그 값을 보여준다
+        StockTick latest = tickBuffers.latest(stockCode);
+        if (latest != null) {
+            dto.setPrice((int) latest.price());
+            dto.setPriceChange(latest.change());
+            dto.setChangeRate(latest.changeRate());
+        }
+        return dto;
     }
     
     @Override
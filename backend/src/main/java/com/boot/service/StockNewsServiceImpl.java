@@ -4,14 +4,23 @@ package com.boot.service;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import com.boot.cache.CachePolicyRegistry;
 import com.boot.dao.StockNewsDAO;
 import com.boot.dto.StockNewsDTO;
 import com.boot.dto.SentimentSummaryDTO;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 뉴스/감성 조회
+ *
+ * 대시보드 조회 경로는 CachePolicyRegistry 정책 캐시를 쓴다.
+ * 종목별 캐시 키는 "{종목코드}" 또는 "{종목코드}:{조건}" (뉴스 적재 시 종목 단위로 삭제),
+ * 전 종목 집계는 TTL 만료만.
+ */
 @Service
 @RequiredArgsConstructor
 public class StockNewsServiceImpl implements StockNewsService {
@@ -19,11 +28,13 @@ public class StockNewsServiceImpl implements StockNewsService {
     private final StockNewsDAO stockNewsDAO;
 
     @Override
+    @Cacheable(value = CachePolicyRegistry.STOCK_NEWS, key = "#stockCode", sync = true)
     public List<StockNewsDTO> getNewsByStock(String stockCode) {
         return stockNewsDAO.getNewsByStock(stockCode);
     }
 
     @Override
+    @Cacheable(value = CachePolicyRegistry.STOCK_SENTIMENT, key = "#stockCode", sync = true)
     public SentimentSummaryDTO getSentimentSummary(String stockCode) {
         Map<String, Object> result = stockNewsDAO.getSentimentSummary(stockCode);
 
@@ -56,6 +67,7 @@ public class StockNewsServiceImpl implements StockNewsService {
     }
 
     @Override
+    @Cacheable(value = CachePolicyRegistry.STOCK_SENTIMENT, key = "#stockCode + ':detail'", sync = true)
     public SentimentSummaryDTO getSentimentSummaryByStock(String stockCode) {
         Map<String, Object> result = stockNewsDAO.getSentimentSummaryByStock(stockCode);
 
@@ -82,6 +94,7 @@ public class StockNewsServiceImpl implements StockNewsService {
     }
 
     @Override
+    @Cacheable(value = CachePolicyRegistry.STOCK_SENTIMENT, key = "#stockCode + ':period:' + #days", sync = true)
     public SentimentSummaryDTO getSentimentSummaryByStockWithPeriod(String stockCode, int days) {
         Map<String, Object> result = stockNewsDAO.getSentimentSummaryByStockWithPeriod(stockCode, days);
 
@@ -108,21 +121,25 @@ public class StockNewsServiceImpl implements StockNewsService {
     }
 
     @Override
+    @Cacheable(value = CachePolicyRegistry.SENTIMENT_OVERVIEW, key = "'all'", sync = true)
     public List<Map<String, Object>> getAllStockSentimentSummary() {
         return stockNewsDAO.getAllStockSentimentSummary();
     }
 
     @Override
+    @Cacheable(value = CachePolicyRegistry.SENTIMENT_OVERVIEW, key = "'all:' + #days", sync = true)
     public List<Map<String, Object>> getAllStockSentimentSummaryWithPeriod(int days) {
         return stockNewsDAO.getAllStockSentimentSummaryWithPeriod(days);
     }
 
     @Override
+    @Cacheable(value = CachePolicyRegistry.STOCK_SENTIMENT, key = "#stockCode + ':trend:' + #days", sync = true)
     public List<Map<String, Object>> getSentimentTrendByStock(String stockCode, int days) {
         return stockNewsDAO.getSentimentTrendByStock(stockCode, days);
     }
 
     @Override
+    @Cacheable(value = CachePolicyRegistry.STOCK_KEYWORDS, key = "#stockCode", sync = true)
     public List<Map<String, Object>> getTopKeywordsByStock(String stockCode) {
         // DB에서 KEYWORDS만 조회
         List<Map<String, Object>> keywordRows = stockNewsDAO.getTopKeywordsByStock(stockCode);
@@ -195,6 +212,7 @@ public class StockNewsServiceImpl implements StockNewsService {
     }
 
     @Override
+    @Cacheable(value = CachePolicyRegistry.TOP_KEYWORDS, key = "#days", sync = true)
     public List<Map<String, Object>> getTopKeywordsAll(int days) {
         // DB에서 KEYWORDS만 조회
         List<Map<String, Object>> keywordRows = stockNewsDAO.getTopKeywordsAll(days);
@@ -267,6 +285,7 @@ public class StockNewsServiceImpl implements StockNewsService {
     }
 
     @Override
+    @Cacheable(value = CachePolicyRegistry.SENTIMENT_OVERVIEW, key = "'overall'", sync = true)
     public Map<String, Object> getOverallSentimentSummary() {
         return stockNewsDAO.getOverallSentimentSummary();
     }
@@ -359,6 +378,7 @@ public class StockNewsServiceImpl implements StockNewsService {
     }
     
     @Override
+    @Cacheable(value = CachePolicyRegistry.POPULAR_STOCKS, key = "'top10'", sync = true)
     public List<Map<String, Object>> getTop10PopularStocks() {
         return stockNewsDAO.getTop10PopularStocks();
     }
@@ -0,0 +1,75 @@
+package com.boot.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.boot.dao.StockMapper;
+import com.boot.realtime.StockPriceWriteBehind;
+import com.boot.realtime.StockTick;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 실시간 가격 → STOCK_INFO 주기 반영
+ *
+ * realtime.price-flush.interval-ms 마다 종목별 최신 틱만 모아 batch-size 단위 MERGE 로 갱신한다.
+ * flush lag = 가장 오래 기다린 변경이 DB 에 반영되기까지 걸린 시간
+ */
+@Service
+@RequiredArgsConstructor
+public class StockPriceFlushService {
+
+    private final StockPriceWriteBehind writeBehind;
+    private final StockMapper stockMapper;
+
+    @Value("${realtime.price-flush.batch-size:200}")
+    private int batchSize;
+
+    private volatile long lastFlushLagMs;
+    private volatile long maxFlushLagMs;
+    private volatile int lastFlushRows;
+    private volatile long totalFlushedRows;
+    private volatile long failedFlushes;
+
+    @Scheduled(fixedDelayString = "${realtime.price-flush.interval-ms:3000}")
+    public void flush() {
+        StockPriceWriteBehind.Drained drained = writeBehind.drain();
+        List<StockTick> ticks = drained.ticks();
+        if (ticks.isEmpty()) return;
+
+        try {
+            for (int from = 0; from < ticks.size(); from += batchSize) {
+                stockMapper.updateRealtimePrices(ticks.subList(from, Math.min(from + batchSize, ticks.size())));
+            }
+        } catch (Exception e) {
+            failedFlushes++;
+            System.err.println("실시간 가격 저장 실패 (" + ticks.size() + "종목): " + e.getMessage());
+            writeBehind.restore(drained);
+            return;
+        }
+
+        // drain 과 onTick 이 엇갈려 시각 없이 꺼낸 경우(pendingSince == 0)는 lag 를 갱신하지 않는다
+        if (drained.pendingSince() > 0) {
+            long lag = System.currentTimeMillis() - drained.pendingSince();
+            lastFlushLagMs = lag;
+            maxFlushLagMs = Math.max(maxFlushLagMs, lag);
+        }
+        lastFlushRows = ticks.size();
+        totalFlushedRows += ticks.size();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = writeBehind.snapshot();
+        stats.put("lastFlushLagMs", lastFlushLagMs);
+        stats.put("maxFlushLagMs", maxFlushLagMs);
+        stats.put("lastFlushRows", lastFlushRows);
+        stats.put("totalFlushedRows", totalFlushedRows);
+        stats.put("failedFlushes", failedFlushes);
+        return stats;
+    }
+}
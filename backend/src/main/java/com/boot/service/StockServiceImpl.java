@@ -3,12 +3,18 @@ package com.boot.service;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import com.boot.cache.CachePolicyRegistry;
+import com.boot.cache.StockCodeFilter;
 import com.boot.dao.StockInfoDAO;
 import com.boot.dao.StockMapper;
 import com.boot.dto.StockInfoDTO;
 import com.boot.dto.StockNewsDTO;
+import com.boot.realtime.TopMoversRanking;
 
 @Service
 public class StockServiceImpl implements StockService {
@@ -19,14 +25,30 @@ public class StockServiceImpl implements StockService {
     @Autowired
     private StockInfoDAO stockDAO;
 
+    @Autowired
+    private TopMoversRanking topMoversRanking;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private StockCodeFilter stockCodeFilter;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public void insertStockInfo(StockInfoDTO dto) {
         mapper.insertStockInfo(dto);
+        stockCodeFilter.add(dto.getStockCode());
+        topMoversRanking.update(dto.getStockCode(), dto.getStockName(), dto.getChangeRate());
     }
 
     @Override
     public void insertStockNews(StockNewsDTO dto) {
         mapper.insertStockNews(dto);
+        // 해당 종목 뉴스/감성/키워드 캐시 무효화
+        eventPublisher.publishEvent(new NewsIngestedEvent(dto.getStockCode()));
     }
 
     @Override
@@ -37,13 +59,20 @@ public class StockServiceImpl implements StockService {
     }
 
     
+    // 급등/급락은 실시간 메모리 순위에서 조회 (초기화 전이면 DB 조회, 짧은 TTL 캐시)
     @Override
     public List<StockInfoDTO> selectTopRisingStocks() {
-        return stockDAO.selectTopRisingStocks();
+        if (topMoversRanking.isEmpty()) return topMoversCache().get("rising", stockDAO::selectTopRisingStocks);
+        return topMoversRanking.topRising();
     }
 
     @Override
     public List<StockInfoDTO> selectTopFallingStocks() {
-        return stockDAO.selectTopFallingStocks();
+        if (topMoversRanking.isEmpty()) return topMoversCache().get("falling", stockDAO::selectTopFallingStocks);
+        return topMoversRanking.topFalling();
+    }
+
+    private Cache topMoversCache() {
+        return cacheManager.getCache(CachePolicyRegistry.TOP_MOVERS);
     }
 }
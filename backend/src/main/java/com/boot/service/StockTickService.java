@@ -0,0 +1,57 @@
+package com.boot.service;
+
+import java.util.List;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import com.boot.realtime.StockTick;
+import com.boot.realtime.StockTickBuffers;
+import com.boot.realtime.StockTickListener;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 실시간 틱 수신 창구
+ * Python → /api/stocks/realtime 으로 들어온 틱에 seq 를 매겨 링버퍼에 보관하고,
+ * 리스너(저장/집계)에 넘긴 뒤 STOMP 로 브로드캐스트한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StockTickService {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StockTickBuffers tickBuffers;
+    private final List<StockTickListener> listeners;
+
+    public void ingest(StockTick received) {
+        // 링버퍼 기록 + seq 부여 (구독 스냅샷 / 이어받기용)
+        StockTick tick = tickBuffers.append(received);
+
+        for (StockTickListener listener : listeners) {
+            try {
+                listener.onTick(tick);
+            } catch (Exception e) {
+                // 리스너 하나의 오류로 브로드캐스트가 막히지 않도록 한다
+                System.err.println("틱 처리 실패 (" + listener.getClass().getSimpleName() + "): " + e.getMessage());
+            }
+        }
+
+        // React에 브로드캐스트 (StockTickSerializer 가 기존 필드명으로 직렬화)
+        messagingTemplate.convertAndSend("/topic/stock/" + tick.code(), tick);
+    }
+
+    // 최근 틱 조회 (sinceSeq 초과분, 오래된 순)
+    public List<StockTick> getTicksSince(String code, long sinceSeq, int limit) {
+        return tickBuffers.since(code, sinceSeq, limit);
+    }
+
+    // seq 스트림 id (서버 재시작/다른 노드면 달라짐)
+    public long getEpoch() {
+        return tickBuffers.getEpoch();
+    }
+
+    public StockTick getLatestTick(String code) {
+        return tickBuffers.latest(code);
+    }
+}
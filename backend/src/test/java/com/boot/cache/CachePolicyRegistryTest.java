@@ -0,0 +1,53 @@
+package com.boot.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.boot.cache.CachePolicy.Invalidation;
+
+class CachePolicyRegistryTest {
+
+    @Test
+    void propertiesOverrideDeclaredDefaults() {
+        MockEnvironment env = new MockEnvironment()
+                .withProperty("cache.policy.stockNewsCache.ttl-seconds", "60")
+                .withProperty("cache.policy.stockNewsCache.max-entries", "10");
+        CachePolicyRegistry registry = new CachePolicyRegistry(env);
+
+        CachePolicy news = registry.get(CachePolicyRegistry.STOCK_NEWS);
+        assertEquals(Duration.ofSeconds(60), news.ttl());
+        assertEquals(10, news.maxEntries());
+        assertEquals(Invalidation.NEWS_INGEST, news.invalidation());
+
+        // 덮어쓰지 않은 정책은 기본값 그대로
+        assertEquals(Duration.ofSeconds(30), registry.get(CachePolicyRegistry.TOP_MOVERS).ttl());
+        assertNull(registry.get("unknownCache"));
+        assertTrue(registry.byInvalidation(Invalidation.NEWS_INGEST).stream()
+                .noneMatch(p -> p.name().equals(CachePolicyRegistry.POPULAR_STOCKS)));
+    }
+
+    @Test
+    void localLimitsApplyPerCache() {
+        ConcurrentMapCacheManager redis = new ConcurrentMapCacheManager("small", "large");
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(redis, new TwoLevelCacheManagerTest.RecordingPublisher(), 16, 60_000);
+        manager.setLocalLimits("small", 2, 60_000);
+
+        Cache small = manager.getCache("small");
+        Cache large = manager.getCache("large");
+        for (int i = 0; i < 5; i++) {
+            small.put("k" + i, i);
+            large.put("k" + i, i);
+        }
+
+        assertEquals(2, ((TwoLevelCache) small).getLocalKeys().size());
+        assertEquals(5, ((TwoLevelCache) large).getLocalKeys().size());
+    }
+}
@@ -0,0 +1,71 @@
+package com.boot.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+class CompressingRedisSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+
+    private static List<Map<String, Object>> rows(int n) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("STOCK_CODE", String.format("%06d", i));
+            row.put("POSITIVE_COUNT", i % 7);
+            row.put("NEGATIVE_COUNT", i % 3);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Test
+    void largeValuesAreCompressedAndRoundTrip() {
+        for (CompressionCodec codec : List.of(CompressionCodec.DEFLATE, CompressionCodec.DEFLATE_FAST)) {
+            CacheMetrics metrics = new CacheMetrics();
+            CompressingRedisSerializer serializer = new CompressingRedisSerializer(json, codec, 1024, metrics);
+            List<Map<String, Object>> value = rows(500);
+
+            byte[] raw = json.serialize(value);
+            byte[] stored = serializer.serialize(value);
+
+            assertTrue(stored.length < raw.length / 3, codec + " " + stored.length + " / " + raw.length);
+            assertEquals(value, serializer.deserialize(stored));
+
+            @SuppressWarnings("unchecked")
+            Map<String, Object> comp = (Map<String, Object>) metrics.snapshot(0).get("compression");
+            assertEquals(1L, comp.get("compressed"));
+            assertEquals(1L, comp.get("decodes"));
+            assertTrue((double) comp.get("ratio") < 0.34);
+        }
+    }
+
+    @Test
+    void smallAndLegacyValuesStayPlainJson() {
+        CacheMetrics metrics = new CacheMetrics();
+        CompressingRedisSerializer serializer = new CompressingRedisSerializer(json, CompressionCodec.DEFLATE, 1024, metrics);
+        List<Map<String, Object>> small = rows(2);
+
+        // 임계값 미만은 JSON 그대로
+        assertArrayEquals(json.serialize(small), serializer.serialize(small));
+
+        // 압축 적용 전에 저장된 JSON 값도 읽힘
+        List<Map<String, Object>> large = rows(500);
+        assertEquals(large, serializer.deserialize(json.serialize(large)));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> comp = (Map<String, Object>) metrics.snapshot(0).get("compression");
+        assertEquals(0L, comp.get("compressed"));
+        assertEquals(1L, comp.get("uncompressed"));
+        assertEquals(0L, comp.get("decodes"));
+    }
+}
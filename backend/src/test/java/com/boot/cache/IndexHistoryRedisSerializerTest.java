@@ -0,0 +1,63 @@
+package com.boot.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.boot.dto.IndexDataDTO;
+
+class IndexHistoryRedisSerializerTest {
+
+    static List<IndexDataDTO> history(int days) {
+        List<IndexDataDTO> rows = new ArrayList<>(days);
+        LocalDate d = LocalDate.of(1980, 1, 4);
+        double close = 100;
+        for (int i = 0; i < days; i++) {
+            IndexDataDTO dto = new IndexDataDTO();
+            dto.setIdxNm("코스피");
+            dto.setBasDt(d.plusDays(i).format(DateTimeFormatter.BASIC_ISO_DATE));
+            double vs = Math.round(Math.sin(i) * 1000) / 100.0;
+            close = Math.round((close + vs) * 100) / 100.0;
+            dto.setClpr(close);
+            dto.setVs(vs);
+            dto.setFltRt(i % 17 == 0 ? null : Math.round(vs / close * 10000) / 100.0);
+            rows.add(dto);
+        }
+        return rows;
+    }
+
+    @Test
+    void roundTripsHistoryInColumnarForm() {
+        List<IndexDataDTO> rows = history(10_000);
+        for (boolean compress : new boolean[]{false, true}) {
+            IndexHistoryRedisSerializer serializer = new IndexHistoryRedisSerializer(compress);
+
+            byte[] bytes = serializer.serialize(rows);
+
+            assertEquals(rows, serializer.deserialize(bytes));
+            assertTrue(bytes.length < new GenericJackson2JsonRedisSerializer().serialize(rows).length / 4);
+        }
+    }
+
+    @Test
+    void fallsBackToJsonForOtherValuesAndReadsExistingJsonEntries() {
+        IndexHistoryRedisSerializer serializer = new IndexHistoryRedisSerializer(true);
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+
+        Map<String, Object> other = new HashMap<>(Map.of("a", 1));
+        assertEquals(other, serializer.deserialize(serializer.serialize(other)));
+
+        // 기존 JSON 으로 저장된 히스토리도 그대로 읽힘
+        List<IndexDataDTO> rows = history(10);
+        assertEquals(rows, serializer.deserialize(json.serialize(rows)));
+    }
+}
@@ -0,0 +1,73 @@
+package com.boot.cache;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.boot.dto.IndexDataDTO;
+
+/**
+ * 지수 히스토리(10,000일) 캐시 직렬화: 기존 JSON vs 컬럼 바이너리(압축 유/무)
+ *
+ * 캐시 히트 비용은 read, 수집 후 캐시 적재 비용은 write.
+ * 실행: 테스트 클래스패스로 main() 실행 (크기는 setUp 에서 출력)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexHistorySerializerBenchmark {
+
+    @Param({"json", "columnar", "columnar-deflate"})
+    public String format;
+
+    private RedisSerializer<Object> serializer;
+    private List<IndexDataDTO> rows;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        rows = IndexHistoryRedisSerializerTest.history(10_000);
+        serializer = switch (format) {
+            case "json" -> new GenericJackson2JsonRedisSerializer();
+            case "columnar" -> new IndexHistoryRedisSerializer(false);
+            default -> new IndexHistoryRedisSerializer(true);
+        };
+        bytes = serializer.serialize(rows);
+        System.out.println(format + " : " + bytes.length + " bytes");
+    }
+
+    @Benchmark
+    public Object read() {
+        return serializer.deserialize(bytes);
+    }
+
+    @Benchmark
+    public byte[] write() {
+        return serializer.serialize(rows);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(IndexHistorySerializerBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
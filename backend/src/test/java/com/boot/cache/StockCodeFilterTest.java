@@ -0,0 +1,79 @@
+package com.boot.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class StockCodeFilterTest {
+
+    @Test
+    void rejectsMalformedAndUnlistedCodesAfterLoad() {
+        StockCodeFilter filter = new StockCodeFilter(() -> List.of("005930", "000660"), 60_000, 100);
+
+        // 목록 로드 전에는 형식만 검사
+        assertTrue(filter.mightExist("123456"));
+        assertFalse(filter.mightExist("abc"));
+
+        filter.reload();
+        assertTrue(filter.mightExist("005930"));
+        assertFalse(filter.mightExist("123456"));
+        assertFalse(filter.mightExist("../etc"));
+
+        // 신규 저장 종목은 다음 로드 전에도 통과
+        filter.add("123456");
+        assertTrue(filter.mightExist("123456"));
+
+        assertEquals(2L, filter.getStats().get("rejectedMalformed"));
+        assertEquals(1L, filter.getStats().get("rejectedUnknown"));
+    }
+
+    @Test
+    void missingCodesAreRejectedUntilNegativeTtlExpires() throws InterruptedException {
+        StockCodeFilter filter = new StockCodeFilter(() -> List.of("005930"), 50, 100);
+        filter.reload();
+
+        filter.markMissing("005930");
+        assertFalse(filter.mightExist("005930"));
+
+        Thread.sleep(80);
+        assertTrue(filter.mightExist("005930"));
+        assertEquals(0, filter.getStats().get("negativeEntries"));
+    }
+
+    @Test
+    void failedLoadKeepsPreviousList() {
+        boolean[] fail = {false};
+        StockCodeFilter filter = new StockCodeFilter(() -> {
+            if (fail[0]) throw new IllegalStateException("db down");
+            return List.of("005930");
+        }, 60_000, 100);
+        filter.reload();
+
+        fail[0] = true;
+        filter.reload();
+        assertTrue(filter.mightExist("005930"));
+        assertFalse(filter.mightExist("000660"));
+    }
+
+    @Test
+    void emptyLoadIsTreatedAsNotLoaded() {
+        List<List<String>> results = new ArrayList<>(List.of(List.of(), List.of("005930"), List.of()));
+        StockCodeFilter filter = new StockCodeFilter(() -> results.remove(0), 60_000, 100);
+
+        // 처음부터 비어 있으면 형식 검사만
+        filter.reload();
+        assertTrue(filter.mightExist("123456"));
+        assertEquals(false, filter.getStats().get("loaded"));
+
+        // 읽은 뒤에 빈 목록이 오면 이전 목록 유지
+        filter.reload();
+        filter.reload();
+        assertTrue(filter.mightExist("005930"));
+        assertFalse(filter.mightExist("123456"));
+    }
+}
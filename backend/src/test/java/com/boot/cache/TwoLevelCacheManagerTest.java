@@ -0,0 +1,213 @@
+package com.boot.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import com.boot.scheduler.InMemoryLeaseStore;
+
+class TwoLevelCacheManagerTest {
+
+    // Redis 대신 발행 메시지를 기록
+    static class RecordingPublisher extends CacheInvalidationPublisher {
+        final List<String> sent = new ArrayList<>();
+
+        RecordingPublisher() {
+            super(null);
+        }
+
+        @Override
+        void publishEvict(String cacheName, String key) {
+            sent.add(cacheName + "|" + key);
+        }
+
+        @Override
+        void publishClear(String cacheName) {
+            sent.add(cacheName + "|");
+        }
+    }
+
+    private final ConcurrentMapCacheManager redis = new ConcurrentMapCacheManager("kospiHistoryCache");
+    private final RecordingPublisher publisher = new RecordingPublisher();
+    private final TwoLevelCacheManager manager = new TwoLevelCacheManager(redis, publisher, 16, 60_000);
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CacheInvalidationPublisher.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void servesFromHeapAfterFirstLoad() {
+        Cache cache = manager.getCache("kospiHistoryCache");
+        int[] loads = {0};
+
+        cache.get("kospi_all", () -> ++loads[0]);
+        // L2 가 비어도 L1 에서 응답
+        redis.getCache("kospiHistoryCache").clear();
+
+        assertEquals(1, cache.get("kospi_all", () -> ++loads[0]));
+        assertEquals(1, loads[0]);
+    }
+
+    @Test
+    void evictClearsBothTiersAndPublishes() {
+        Cache cache = manager.getCache("kospiHistoryCache");
+        cache.put("kospi_all", "v1");
+
+        cache.evict("kospi_all");
+
+        assertNull(cache.get("kospi_all"));
+        assertNull(redis.getCache("kospiHistoryCache").get("kospi_all"));
+        assertEquals(List.of("kospiHistoryCache|kospi_all", "kospiHistoryCache|kospi_all"), publisher.sent);
+    }
+
+    @Test
+    void remoteInvalidationDropsOnlyLocalCopy() {
+        Cache cache = manager.getCache("kospiHistoryCache");
+        cache.put("kospi_all", "v1");
+        // 다른 노드가 L2 를 갱신한 상황
+        redis.getCache("kospiHistoryCache").put("kospi_all", "v2");
+
+        manager.onMessage(message(publisher.getNodeId() + "|kospiHistoryCache|kospi_all"), null);
+        assertEquals("v1", cache.get("kospi_all").get());
+
+        manager.onMessage(message("other-node|kospiHistoryCache|kospi_all"), null);
+        assertEquals("v2", cache.get("kospi_all").get());
+
+        manager.onMessage(message("other-node|kospiHistoryCache|"), null);
+        assertEquals(0, ((TwoLevelCache) cache).getLocalSize());
+    }
+
+    @Test
+    void staleWhileRevalidateServesOldValueAndRefreshesInBackground() throws Exception {
+        TwoLevelCacheManager swr = new TwoLevelCacheManager(redis, publisher, 16, 60_000,
+                Set.of("kospiHistoryCache"), 1);
+        Cache cache = swr.getCache("kospiHistoryCache");
+        cache.put("kospi_all", "v1");
+        Thread.sleep(5);
+
+        CountDownLatch loaded = new CountDownLatch(1);
+        Object served = cache.get("kospi_all", () -> {
+            loaded.countDown();
+            return "v2";
+        });
+
+        assertEquals("v1", served);
+        assertTrue(loaded.await(1, TimeUnit.SECONDS));
+        for (int i = 0; i < 100 && !"v2".equals(cache.get("kospi_all").get()); i++) {
+            Thread.sleep(10);
+        }
+        assertEquals("v2", cache.get("kospi_all").get());
+        assertEquals("v2", redis.getCache("kospiHistoryCache").get("kospi_all").get());
+        swr.shutdown();
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        Cache cache = manager.getCache("kospiHistoryCache");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(pool.submit(() -> cache.get("kospi_all", () -> {
+                    loads.incrementAndGet();
+                    release.await(5, TimeUnit.SECONDS);
+                    return "v1";
+                })));
+            }
+            Map<String, Object> stats = ((TwoLevelCache) cache).getLoadStats();
+            for (int i = 0; i < 200 && (long) stats.get("coalescedWaiters") < 7; i++) {
+                Thread.sleep(10);
+                stats = ((TwoLevelCache) cache).getLoadStats();
+            }
+            release.countDown();
+            for (Future<Object> f : results) {
+                assertEquals("v1", f.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(7L, manager.getLoadStats().get("kospiHistoryCache").get("coalescedWaiters"));
+        assertEquals("v1", redis.getCache("kospiHistoryCache").get("kospi_all").get());
+    }
+
+    @Test
+    void otherNodeWaitsForLockHolderInsteadOfLoading() throws Exception {
+        InMemoryLeaseStore lockStore = new InMemoryLeaseStore();
+        TwoLevelCacheManager nodeB = new TwoLevelCacheManager(redis, publisher, 16, 60_000, Set.of(), 0,
+                new DistributedLoadLock(lockStore, 10_000, 2_000, 5), new CacheMetricsRegistry());
+        // 노드 A 가 적재 잠금을 잡고 적재 중
+        lockStore.setIfAbsent("lock:cache:kospiHistoryCache:kospi_all", "node-a", 10_000);
+
+        CompletableFuture<Object> b = CompletableFuture.supplyAsync(
+                () -> nodeB.getCache("kospiHistoryCache").get("kospi_all", () -> "from-b"));
+        Thread.sleep(50);
+        redis.getCache("kospiHistoryCache").put("kospi_all", "from-a");
+
+        assertEquals("from-a", b.get(5, TimeUnit.SECONDS));
+        Map<String, Object> stats = nodeB.getLoadStats().get("kospiHistoryCache");
+        assertEquals(0L, stats.get("remoteWaitTimeouts"));
+        assertEquals(1L, stats.get("remoteWaits"));
+        nodeB.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recordsHitsMissesLoadTimeAndEvictionsPerCache() {
+        TwoLevelCacheManager small = new TwoLevelCacheManager(redis, publisher, 2, 60_000);
+        Cache cache = small.getCache("kospiHistoryCache");
+
+        cache.get("a", () -> "A");                 // 미스 → 적재
+        cache.get("a", () -> "A");                 // L1 히트
+        ((TwoLevelCache) cache).evictLocal("a");
+        cache.get("a", () -> "A");                 // L2 히트
+        cache.get("b", () -> "B");
+        cache.get("c", () -> "C");                 // L1 최대 2개 → a LRU 제거
+        cache.evict("b");
+
+        Map<String, Object> stats = small.getStats("kospiHistoryCache");
+        assertEquals(1L, stats.get("l1Hits"));
+        assertEquals(1L, stats.get("l2Hits"));
+        assertEquals(3L, stats.get("misses"));
+        assertEquals(3L, ((Map<String, Object>) stats.get("loadTime")).get("count"));
+        assertEquals(1L, stats.get("evictions"));
+        assertEquals(1L, stats.get("l1Evictions"));
+        assertEquals(1, stats.get("l1Size"));
+        small.shutdown();
+    }
+
+    @Test
+    void histogramPercentilesUseBucketUpperBounds() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int i = 0; i < 98; i++) h.record(3);
+        h.record(40);
+        h.record(20_000);
+
+        assertEquals(5, h.percentile(0.5));
+        assertEquals(50, h.percentile(0.99));
+        assertEquals(20_000, h.percentile(1.0));
+        assertEquals(100L, h.snapshot().get("count"));
+    }
+}
@@ -0,0 +1,67 @@
+package com.boot.index;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import com.boot.dto.IndexDataDTO;
+
+/**
+ * 기존 IndexService.parseXml (DOM) - IndexXmlParser 결과 비교 / 벤치마크 기준용
+ */
+class DomIndexXmlParser {
+
+    private String getTagValue(String tag, Element element) {
+        NodeList nodeList = element.getElementsByTagName(tag);
+        if (nodeList.getLength() > 0) {
+            return nodeList.item(0).getTextContent();
+        }
+        return null;
+    }
+
+    List<IndexDataDTO> parse(String xmlData) {
+        List<IndexDataDTO> resultList = new ArrayList<>();
+        try {
+            DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+            Document doc = builder.parse(new ByteArrayInputStream(xmlData.getBytes("UTF-8")));
+            doc.getDocumentElement().normalize();
+
+            int totalCount = Integer.parseInt(
+                    doc.getElementsByTagName("totalCount").item(0).getTextContent()
+            );
+
+            NodeList itemList = doc.getElementsByTagName("item");
+
+            for (int i = 0; i < itemList.getLength(); i++) {
+                Element e = (Element) itemList.item(i);
+                IndexDataDTO dto = new IndexDataDTO();
+
+                dto.setIdxNm(getTagValue("idxNm", e));
+                dto.setBasDt(getTagValue("basDt", e));
+
+                try { dto.setClpr(Double.parseDouble(getTagValue("clpr", e))); } catch (Exception ignored) {}
+                try { dto.setVs(Double.parseDouble(getTagValue("vs", e))); } catch (Exception ignored) {}
+                try { dto.setFltRt(Double.parseDouble(getTagValue("fltRt", e))); } catch (Exception ignored) {}
+                try { dto.setMkp(Double.parseDouble(getTagValue("mkp", e))); } catch (Exception ignored) {}
+                try { dto.setHipr(Double.parseDouble(getTagValue("hipr", e))); } catch (Exception ignored) {}
+                try { dto.setLopr(Double.parseDouble(getTagValue("lopr", e))); } catch (Exception ignored) {}
+                try { dto.setTrqu(Long.parseLong(getTagValue("trqu", e))); } catch (Exception ignored) {}
+                try { dto.setTrPrc(Long.parseLong(getTagValue("trPrc", e))); } catch (Exception ignored) {}
+                try { dto.setLstgMrktTotAmt(Long.parseLong(getTagValue("lstgMrktTotAmt", e))); } catch (Exception ignored) {}
+
+                if (i == 0) dto.setTotalCount(totalCount);
+                resultList.add(dto);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        return resultList;
+    }
+}
@@ -0,0 +1,133 @@
+package com.boot.index;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * data.go.kr getStockMarketIndex 로컬 스텁
+ * totalCount 건의 일별 데이터를 pageNo / numOfRows 에 맞춰 XML 로 돌려준다.
+ */
+class IndexApiStub implements AutoCloseable {
+
+    private static final DateTimeFormatter FMT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final HttpServer server;
+    private final int totalCount;
+    private final long delayMillis;
+
+    final Set<Integer> failingPages = ConcurrentHashMap.newKeySet();
+    // 페이지별 남은 일시 실패 횟수 (0 이 되면 정상 응답)
+    final Map<Integer, AtomicInteger> transientFailures = new ConcurrentHashMap<>();
+    final AtomicInteger requests = new AtomicInteger();
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+
+    IndexApiStub(int totalCount, long delayMillis) throws IOException {
+        this.totalCount = totalCount;
+        this.delayMillis = delayMillis;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(Executors.newCachedThreadPool());
+        this.server.createContext("/index", exchange -> {
+            requests.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Map<String, String> q = query(exchange.getRequestURI().getRawQuery());
+                int pageNo = Integer.parseInt(q.getOrDefault("pageNo", "1"));
+                int rows = Integer.parseInt(q.getOrDefault("numOfRows", "10"));
+                if (delayMillis > 0) Thread.sleep(delayMillis);
+
+                AtomicInteger remaining = transientFailures.get(pageNo);
+                if (remaining != null && rows > 1 && remaining.getAndDecrement() > 0) {
+                    exchange.sendResponseHeaders(503, -1);
+                    return;
+                }
+                if (failingPages.contains(pageNo) && rows > 1) {
+                    exchange.sendResponseHeaders(500, -1);
+                    return;
+                }
+                byte[] body = page(q.getOrDefault("idxNm", "코스피"), pageNo, rows, totalCount)
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/xml; charset=UTF-8");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(body);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        this.server.start();
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/index";
+    }
+
+    // 실제 API 응답과 같은 구조의 XML 한 페이지
+    static String page(String idxNm, int pageNo, int rows, int totalCount) {
+        StringBuilder sb = new StringBuilder(256 + rows * 420);
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>")
+          .append("<response><header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>")
+          .append("<body><numOfRows>").append(rows).append("</numOfRows>")
+          .append("<pageNo>").append(pageNo).append("</pageNo>")
+          .append("<totalCount>").append(totalCount).append("</totalCount><items>");
+
+        LocalDate base = LocalDate.of(1980, 1, 4);
+        int from = (pageNo - 1) * rows;
+        for (int i = from; i < Math.min(from + rows, totalCount); i++) {
+            double close = 1000 + (i % 997) * 1.37;
+            sb.append("<item>")
+              .append("<basDt>").append(base.plusDays(i).format(FMT)).append("</basDt>")
+              .append("<idxNm>").append(idxNm).append("</idxNm>")
+              .append("<idxCsf>KOSPI시리즈</idxCsf>")
+              .append("<epyItmsCnt>946</epyItmsCnt>")
+              .append("<clpr>").append(String.format("%.2f", close)).append("</clpr>")
+              .append("<vs>").append(i % 2 == 0 ? "-" : "").append("3.21</vs>")
+              .append("<fltRt>").append(i % 2 == 0 ? "-" : "").append(".12</fltRt>")
+              .append("<mkp>").append(String.format("%.2f", close - 2)).append("</mkp>")
+              .append("<hipr>").append(String.format("%.2f", close + 5)).append("</hipr>")
+              .append("<lopr>").append(String.format("%.2f", close - 6)).append("</lopr>")
+              .append("<trqu>").append(400000000L + i).append("</trqu>")
+              .append("<trPrc>").append(9000000000000L + i).append("</trPrc>")
+              .append("<lstgMrktTotAmt>").append(2000000000000000L + i).append("</lstgMrktTotAmt>")
+              .append("<lsYrEdVsFltRg>12.3</lsYrEdVsFltRg><lsYrEdVsFltRt>.5</lsYrEdVsFltRt>")
+              .append("<yrWRcrdHgst>2700</yrWRcrdHgst><yrWRcrdHgstDt>20240101</yrWRcrdHgstDt>")
+              .append("<yrWRcrdLwst>2400</yrWRcrdLwst><yrWRcrdLwstDt>20230101</yrWRcrdLwstDt>")
+              .append("</item>");
+        }
+        return sb.append("</items></body></response>").toString();
+    }
+
+    private static Map<String, String> query(String raw) {
+        Map<String, String> map = new HashMap<>();
+        if (raw == null) return map;
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                map.put(pair.substring(0, eq), URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,164 @@
+package com.boot.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.boot.dao.IndexDAO;
+import com.boot.dto.IndexDataDTO;
+
+class IndexBatchWriterTest {
+
+    /**
+     * BATCH 세션은 flushStatements 에서, SIMPLE 세션은 해당 행을 저장할 때 실패하는 가짜 DB
+     * (badDates 의 basDt 는 항상 실패, 운영과 같이 autoCommit - 배치 실패 지점 앞의 행은 이미 반영됨)
+     */
+    static class FakeDb {
+        final Set<String> badDates;
+        final Set<String> saved = new TreeSet<>();
+        int batchSessions;
+        int simpleSessions;
+        int merges;
+
+        FakeDb(Set<String> badDates) {
+            this.badDates = badDates;
+        }
+
+        SqlSessionFactory factory() {
+            return (SqlSessionFactory) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] {SqlSessionFactory.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("toString")) return "FakeSqlSessionFactory";
+                        if (!method.getName().equals("openSession") || args == null || args.length != 2) {
+                            throw new UnsupportedOperationException(method.getName());
+                        }
+                        return session((ExecutorType) args[0]);
+                    });
+        }
+
+        private SqlSession session(ExecutorType type) {
+            boolean batch = type == ExecutorType.BATCH;
+            if (batch) batchSessions++;
+            else simpleSessions++;
+            List<IndexDataDTO> pending = new ArrayList<>();
+
+            IndexDAO dao = (IndexDAO) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] {IndexDAO.class}, (proxy, method, args) -> {
+                        if (!method.getName().equals("upsertIndexData")) {
+                            throw new UnsupportedOperationException(method.getName());
+                        }
+                        IndexDataDTO dto = (IndexDataDTO) args[0];
+                        merges++;
+                        if (batch) {
+                            pending.add(dto);
+                        } else if (badDates.contains(dto.getBasDt())) {
+                            throw new PersistenceException("ORA-01400: " + dto.getBasDt());
+                        } else {
+                            saved.add(dto.getBasDt());
+                        }
+                        return null;
+                    });
+
+            return (SqlSession) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] {SqlSession.class}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "getMapper":
+                                return dao;
+                            case "flushStatements":
+                                for (IndexDataDTO dto : pending) {
+                                    if (badDates.contains(dto.getBasDt())) {
+                                        pending.clear();
+                                        throw new PersistenceException("ORA-01400: " + dto.getBasDt());
+                                    }
+                                    saved.add(dto.getBasDt());
+                                }
+                                pending.clear();
+                                return List.of();
+                            case "commit":
+                            case "close":
+                                return null;
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+        }
+    }
+
+    private static List<IndexDataDTO> rows(int n) {
+        return IntStream.rangeClosed(1, n).mapToObj(i -> {
+            IndexDataDTO dto = new IndexDataDTO();
+            dto.setIdxNm("코스피");
+            dto.setBasDt(String.valueOf(20260100 + i));
+            return dto;
+        }).collect(Collectors.toList());
+    }
+
+    private static IndexBatchWriter writer(FakeDb db, int batchSize) {
+        IndexBatchWriter writer = new IndexBatchWriter();
+        ReflectionTestUtils.setField(writer, "sqlSessionFactory", db.factory());
+        ReflectionTestUtils.setField(writer, "batchSize", batchSize);
+        return writer;
+    }
+
+    @Test
+    void writesAllRowsInBatches() {
+        FakeDb db = new FakeDb(Set.of());
+        IndexWriteStats stats = new IndexWriteStats();
+
+        int failed = writer(db, 4).write(rows(10), stats);
+
+        assertEquals(0, failed);
+        assertEquals(10, db.saved.size());
+        assertEquals(3, db.batchSessions);
+        assertEquals(0, db.simpleSessions);
+        assertEquals(3, stats.getBatches());
+        assertEquals(0, stats.getFallbackBatches());
+    }
+
+    @Test
+    void failedBatchFallsBackToRowByRowAndCountsFailedRows() {
+        // 두 번째 배치(20260105~20260108)에 실패 행 2개
+        FakeDb db = new FakeDb(Set.of("20260106", "20260108"));
+        IndexWriteStats stats = new IndexWriteStats();
+
+        int failed = writer(db, 4).write(rows(10), stats);
+
+        assertEquals(2, failed);
+        assertEquals(1, db.simpleSessions);
+        // 실패 행만 빠지고 같은 배치의 나머지 행은 저장됨 (배치 때 반영된 20260105 는 행 단위로 한 번 더 MERGE)
+        assertEquals(8, db.saved.size());
+        assertEquals(List.of("20260105", "20260107"),
+                db.saved.stream().filter(d -> d.compareTo("20260105") >= 0 && d.compareTo("20260108") <= 0)
+                        .collect(Collectors.toList()));
+        assertEquals(14, db.merges);
+        assertEquals(10, stats.getRows());
+        assertEquals(3, stats.getBatches());
+        assertEquals(1, stats.getFallbackBatches());
+        assertEquals(2, stats.getFailedRows());
+    }
+
+    @Test
+    void stopsBetweenBatchesOnceJobIsNoLongerActive() {
+        FakeDb db = new FakeDb(Set.of());
+        int[] checks = {0};
+
+        assertThrows(IllegalStateException.class,
+                () -> writer(db, 4).write(rows(10), new IndexWriteStats(), () -> ++checks[0] <= 1));
+
+        // 첫 배치만 저장되고 나머지는 새 리스 보유자에게 맡김
+        assertEquals(4, db.saved.size());
+    }
+}
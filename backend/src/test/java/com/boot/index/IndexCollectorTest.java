@@ -0,0 +1,191 @@
+package com.boot.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import com.boot.dto.IndexDataDTO;
+
+class IndexCollectorTest {
+
+    private static final Pattern BAS_DT = Pattern.compile("<basDt>(\\d{8})</basDt>");
+
+    private final RestTemplate restTemplate = new RestTemplate();
+
+    private static List<IndexDataDTO> parse(String xml) {
+        List<IndexDataDTO> rows = new ArrayList<>();
+        Matcher m = BAS_DT.matcher(xml);
+        while (m.find()) {
+            IndexDataDTO dto = new IndexDataDTO();
+            dto.setBasDt(m.group(1));
+            rows.add(dto);
+        }
+        return rows;
+    }
+
+    private static List<Integer> pages(int n) {
+        return IntStream.rangeClosed(1, n).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    void fetchesPagesConcurrentlyAndWritesInBatches() throws Exception {
+        try (IndexApiStub stub = new IndexApiStub(2_000, 50)) {
+            IndexCollector collector = new IndexCollector(4, 0, 2, 300);
+            List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+            List<IndexDataDTO> written = Collections.synchronizedList(new ArrayList<>());
+
+            IndexCollectReport report = collector.collect("코스피", pages(20),
+                    p -> restTemplate.getForObject(stub.url() + "?pageNo=" + p + "&numOfRows=100", String.class),
+                    IndexCollectorTest::parse,
+                    rows -> {
+                        batchSizes.add(rows.size());
+                        written.addAll(rows);
+                        return 0;
+                    });
+
+            assertEquals(20, report.getPages());
+            assertEquals(2_000, report.getRows());
+            assertEquals(2_000, written.stream().map(IndexDataDTO::getBasDt).distinct().count());
+            assertTrue(report.getFailedPages().isEmpty());
+            assertTrue(stub.maxInFlight.get() > 1, "페이지를 동시에 요청해야 함");
+            assertTrue(stub.maxInFlight.get() <= 4);
+            assertTrue(batchSizes.stream().limit(batchSizes.size() - 1).allMatch(s -> s >= 300));
+        }
+    }
+
+    @Test
+    void reportsFailedPagesAndKeepsGoing() throws Exception {
+        try (IndexApiStub stub = new IndexApiStub(1_000, 0)) {
+            stub.failingPages.add(3);
+            stub.failingPages.add(7);
+            IndexCollector collector = new IndexCollector(3, 0, 4, 100);
+            List<IndexDataDTO> written = Collections.synchronizedList(new ArrayList<>());
+
+            IndexCollectReport report = collector.collect("코스피", pages(10),
+                    p -> restTemplate.getForObject(stub.url() + "?pageNo=" + p + "&numOfRows=100", String.class),
+                    IndexCollectorTest::parse,
+                    rows -> {
+                        written.addAll(rows);
+                        return 0;
+                    });
+
+            assertEquals(List.of(3, 7), report.getFailedPages());
+            assertEquals(800, report.getRows());
+            assertEquals(800, written.size());
+        }
+    }
+
+    @Test
+    void respectsRateLimit() throws Exception {
+        try (IndexApiStub stub = new IndexApiStub(1_000, 0)) {
+            IndexCollector collector = new IndexCollector(8, 20, 4, 100);
+
+            IndexCollectReport report = collector.collect("코스피", pages(10),
+                    p -> restTemplate.getForObject(stub.url() + "?pageNo=" + p + "&numOfRows=100", String.class),
+                    IndexCollectorTest::parse,
+                    rows -> 0);
+
+            // 초당 20회 → 10 페이지는 최소 450ms
+            assertTrue(report.getElapsedMs() >= 400, "elapsed " + report.getElapsedMs());
+            assertEquals(10, stub.requests.get());
+        }
+    }
+
+    @Test
+    void retriesTransientFailuresWithBackoffAndReportsSavedPages() throws Exception {
+        try (IndexApiStub stub = new IndexApiStub(1_000, 0)) {
+            stub.transientFailures.put(2, new AtomicInteger(2));
+            stub.failingPages.add(5);
+            IndexCollector collector = new IndexCollector(3, 0, 4, 200, 3, 20, 40);
+            List<Integer> saved = Collections.synchronizedList(new ArrayList<>());
+
+            IndexCollectReport report = collector.collect("코스피", pages(10),
+                    p -> restTemplate.getForObject(stub.url() + "?pageNo=" + p + "&numOfRows=100", String.class),
+                    IndexCollectorTest::parse,
+                    rows -> 0,
+                    saved::addAll);
+
+            // 2페이지는 3번째 시도에 성공, 5페이지는 3번 모두 실패
+            assertEquals(List.of(5), report.getFailedPages());
+            assertEquals(900, report.getRows());
+            assertEquals(4, report.getRetries());
+            Collections.sort(saved);
+            assertEquals(List.of(1, 2, 3, 4, 6, 7, 8, 9, 10), saved);
+        }
+    }
+
+    @Test
+    void pagesWithUnsavedRowsAreReportedFailedNotSaved() throws Exception {
+        try (IndexApiStub stub = new IndexApiStub(1_000, 0)) {
+            // 1 페이지(100행)씩 저장, 4페이지 묶음에서만 1행 저장 실패
+            IndexCollector collector = new IndexCollector(1, 0, 4, 100);
+            List<Integer> saved = Collections.synchronizedList(new ArrayList<>());
+            AtomicInteger batches = new AtomicInteger();
+
+            IndexCollectReport report = collector.collect("코스피", pages(6),
+                    p -> restTemplate.getForObject(stub.url() + "?pageNo=" + p + "&numOfRows=100", String.class),
+                    IndexCollectorTest::parse,
+                    rows -> batches.incrementAndGet() == 4 ? 1 : 0,
+                    saved::addAll);
+
+            assertEquals(1, report.getFailedPages().size());
+            assertEquals(5, saved.size());
+            assertTrue(Collections.disjoint(saved, report.getFailedPages()));
+            assertEquals(599, report.getRows());
+        }
+    }
+
+    @Test
+    void stopsWritingOnceJobIsNoLongerActive() throws Exception {
+        try (IndexApiStub stub = new IndexApiStub(1_000, 0)) {
+            // 1 페이지씩 저장, 2번째 저장 후 리스 상실
+            IndexCollector collector = new IndexCollector(1, 0, 4, 100);
+            AtomicInteger writes = new AtomicInteger();
+            List<Integer> saved = Collections.synchronizedList(new ArrayList<>());
+
+            assertThrows(IllegalStateException.class, () -> collector.collect("코스피", pages(10),
+                    p -> restTemplate.getForObject(stub.url() + "?pageNo=" + p + "&numOfRows=100", String.class),
+                    IndexCollectorTest::parse,
+                    rows -> {
+                        writes.incrementAndGet();
+                        return 0;
+                    },
+                    saved::addAll,
+                    () -> writes.get() < 2));
+
+            assertEquals(2, writes.get());
+            assertEquals(2, saved.size());
+        }
+    }
+
+    @Test
+    void parserErrorEndsCollectionInsteadOfHanging() throws Exception {
+        try (IndexApiStub stub = new IndexApiStub(1_000, 0)) {
+            IndexCollector collector = new IndexCollector(2, 0, 2, 100);
+
+            // Exception 이 아닌 Error 로 파싱 스레드가 죽어도 writer 가 끝나야 함
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+                    assertThrows(IllegalStateException.class, () -> collector.collect("코스피", pages(10),
+                            p -> restTemplate.getForObject(stub.url() + "?pageNo=" + p + "&numOfRows=100", String.class),
+                            xml -> {
+                                if (xml.contains("<pageNo>3</pageNo>")) throw new AssertionError("parser bug");
+                                return parse(xml);
+                            },
+                            rows -> 0)));
+        }
+    }
+}
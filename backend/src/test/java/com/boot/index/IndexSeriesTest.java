@@ -0,0 +1,116 @@
+package com.boot.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.boot.dto.IndexDataDTO;
+
+class IndexSeriesTest {
+
+    private static final DateTimeFormatter FMT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static IndexDataDTO row(LocalDate date, double clpr) {
+        IndexDataDTO dto = new IndexDataDTO();
+        dto.setBasDt(date.format(FMT));
+        dto.setClpr(clpr);
+        dto.setFltRt(0.0);
+        return dto;
+    }
+
+    private static IndexSeries daily(int days) {
+        List<IndexDataDTO> rows = new ArrayList<>();
+        LocalDate d = LocalDate.of(1980, 1, 4);
+        for (int i = 0; i < days; i++) {
+            rows.add(row(d.plusDays(i), 100 + Math.sin(i / 30.0) * 20));
+        }
+        return IndexSeries.from(rows);
+    }
+
+    @Test
+    void rangeIsBoundedByMaxPointsAndKeepsEndpoints() {
+        IndexSeries series = daily(10_000);
+
+        List<IndexPoint> points = series.range(0, Integer.MAX_VALUE, 400);
+
+        assertEquals(400, points.size());
+        assertEquals(series.firstBasDt(), points.get(0).basDt());
+        assertEquals(series.lastBasDt(), points.get(399).basDt());
+        for (int i = 1; i < points.size(); i++) {
+            assertTrue(points.get(i - 1).basDt().compareTo(points.get(i).basDt()) < 0);
+        }
+    }
+
+    @Test
+    void rangeFiltersByDateAndReturnsSmallRangesAsIs() {
+        IndexSeries series = daily(100);
+
+        List<IndexPoint> points = series.range(19800201, 19800210, 500);
+
+        assertEquals(10, points.size());
+        assertEquals("19800201", points.get(0).basDt());
+        assertEquals("19800210", points.get(9).basDt());
+        assertEquals(10, series.count(19800201, 19800210));
+    }
+
+    @Test
+    void keepsSpikeThatUniformSamplingWouldMiss() {
+        List<IndexDataDTO> rows = new ArrayList<>();
+        LocalDate d = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < 1000; i++) {
+            rows.add(row(d.plusDays(i), i == 501 ? 500 : 100));
+        }
+        IndexSeries series = IndexSeries.from(rows);
+
+        List<IndexPoint> points = series.range(0, Integer.MAX_VALUE, 50);
+
+        assertTrue(points.stream().anyMatch(p -> p.clpr() == 500));
+    }
+
+    @Test
+    void mergeReplacesFromFirstNewDateAndAppends() {
+        IndexSeries series = daily(10);
+        LocalDate last = LocalDate.of(1980, 1, 13);
+
+        IndexSeries merged = series.merge(List.of(row(last, 999), row(last.plusDays(1), 1000)));
+
+        assertEquals(11, merged.size());
+        List<IndexPoint> tail = merged.range(19800113, Integer.MAX_VALUE, 500);
+        assertEquals(999, tail.get(0).clpr());
+        assertEquals("19800114", merged.lastBasDt());
+        assertEquals(series, series.merge(List.of()));
+    }
+
+    @Test
+    void dailyAppendsKeepOlderSnapshotsIntact() {
+        IndexSeries series = daily(10);
+        LocalDate d = LocalDate.of(1980, 1, 14);
+
+        List<IndexSeries> snapshots = new ArrayList<>();
+        snapshots.add(series);
+        for (int i = 0; i < 1000; i++) {
+            series = series.merge(List.of(row(d.plusDays(i), 200 + i)));
+            snapshots.add(series);
+        }
+
+        assertEquals(1010, series.size());
+        assertEquals(1199, series.clprAt(1009));
+        for (int i = 0; i < snapshots.size(); i++) {
+            IndexSeries s = snapshots.get(i);
+            assertEquals(10 + i, s.size());
+            assertEquals(10 + i, s.range(0, Integer.MAX_VALUE, Integer.MAX_VALUE).size());
+        }
+
+        // 이전 스냅샷에서 갈라지면 복사본에 기록 (최신 스냅샷은 그대로)
+        IndexSeries fork = snapshots.get(5).merge(List.of(row(d.plusDays(5), -1)));
+        assertEquals(16, fork.size());
+        assertEquals(-1, fork.clprAt(15));
+        assertEquals(205, series.clprAt(15));
+    }
+}
@@ -0,0 +1,62 @@
+package com.boot.index;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.boot.dto.IndexDataDTO;
+
+/**
+ * 지수 API 한 페이지(500건) 파싱: StAX(IndexXmlParser) vs 기존 DOM
+ *
+ * 실행: 테스트 클래스패스로 main() 실행 (-prof gc 결과로 할당량도 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexXmlParserBenchmark {
+
+    private String page;
+    private IndexXmlParser stax;
+    private DomIndexXmlParser dom;
+
+    @Setup
+    public void setUp() {
+        // 실제 응답과 같은 구조의 500건 페이지
+        page = IndexApiStub.page("코스피", 1, 500, 10_000);
+        stax = new IndexXmlParser();
+        dom = new DomIndexXmlParser();
+    }
+
+    @Benchmark
+    public List<IndexDataDTO> stax() {
+        return stax.parse(page);
+    }
+
+    @Benchmark
+    public List<IndexDataDTO> dom() {
+        return dom.parse(page);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(IndexXmlParserBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,56 @@
+package com.boot.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.boot.dto.IndexDataDTO;
+
+class IndexXmlParserTest {
+
+    private final IndexXmlParser parser = new IndexXmlParser();
+
+    @Test
+    void matchesDomParserOnApiPage() {
+        String xml = IndexApiStub.page("코스피", 3, 500, 10_000);
+
+        List<IndexDataDTO> stax = parser.parse(xml);
+        List<IndexDataDTO> dom = new DomIndexXmlParser().parse(xml);
+
+        assertEquals(500, stax.size());
+        assertEquals(dom, stax);
+        assertEquals(10_000, stax.get(0).getTotalCount());
+        assertEquals(0, parser.getFieldErrors());
+    }
+
+    @Test
+    void countsMalformedFieldsInsteadOfSwallowing() {
+        String xml = "<response><header><resultCode>00</resultCode></header><body><totalCount>1</totalCount><items>"
+                + "<item><basDt>20240102</basDt><idxNm>코스피</idxNm><clpr>2,669.81</clpr><vs></vs>"
+                + "<fltRt>.55</fltRt><trqu>abc</trqu></item></items></body></response>";
+
+        IndexDataDTO dto = parser.parse(xml).get(0);
+
+        assertEquals("20240102", dto.getBasDt());
+        assertNull(dto.getClpr());
+        assertNull(dto.getVs());
+        assertEquals(0.55, dto.getFltRt());
+        assertNull(dto.getTrqu());
+        // 빈 값은 오류가 아니고, 형식이 틀린 값만 집계
+        assertEquals(2, parser.getFieldErrors());
+    }
+
+    @Test
+    void rejectsBrokenOrErrorResponses() {
+        assertThrows(IndexParseException.class, () -> parser.parse("<response><body><items><item>"));
+        assertThrows(IndexParseException.class, () -> parser.parse(
+                "<OpenAPI_ServiceResponse><cmmMsgHeader><errMsg>SERVICE ERROR</errMsg>"
+                        + "<returnAuthMsg>SERVICE_KEY_IS_NOT_REGISTERED_ERROR</returnAuthMsg>"
+                        + "</cmmMsgHeader></OpenAPI_ServiceResponse>"));
+        assertEquals(2, parser.getDocumentErrors());
+    }
+}
@@ -0,0 +1,89 @@
+package com.boot.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+class IndicatorSeriesTest {
+
+    private static final LocalDate START = LocalDate.of(2020, 1, 1);
+
+    private static double price(int i) {
+        return 2000 + Math.sin(i / 7.0) * 50 + i * 0.3;
+    }
+
+    private static int date(int i) {
+        LocalDate d = START.plusDays(i);
+        return d.getYear() * 10000 + d.getMonthValue() * 100 + d.getDayOfMonth();
+    }
+
+    private static IndicatorSeries build(int n) {
+        IndicatorSeries s = new IndicatorSeries(16);
+        for (int i = 0; i < n; i++) {
+            s.append(date(i), (int) START.plusDays(i).toEpochDay(), price(i));
+        }
+        return s;
+    }
+
+    private static double sma(int end, int period) {
+        double sum = 0;
+        for (int i = end - period + 1; i <= end; i++) sum += price(i);
+        return sum / period;
+    }
+
+    @Test
+    void matchesDirectComputation() {
+        int n = 300;
+        IndicatorRange r = build(n).range(0, Integer.MAX_VALUE, 1000);
+        int last = n - 1;
+
+        assertEquals(n, r.getTotalPoints());
+        assertNull(r.getMa120()[118]);
+        assertEquals(sma(last, 5), r.getMa5()[last], 1e-9);
+        assertEquals(sma(last, 120), r.getMa120()[last], 1e-9);
+
+        // EMA 12: SMA 로 시작 후 지수 평활
+        double ema = sma(11, 12);
+        for (int i = 12; i <= last; i++) ema += 2.0 / 13 * (price(i) - ema);
+        assertEquals(ema, r.getEma12()[last], 1e-9);
+
+        // 볼린저 20
+        double mean = sma(last, 20), var = 0;
+        for (int i = last - 19; i <= last; i++) var += (price(i) - mean) * (price(i) - mean);
+        assertEquals(mean + 2 * Math.sqrt(var / 20), r.getBbUpper()[last], 1e-6);
+
+        // RSI 14 (Wilder)
+        double gain = 0, loss = 0;
+        for (int i = 1; i <= 14; i++) {
+            double c = price(i) - price(i - 1);
+            gain += Math.max(c, 0) / 14;
+            loss += Math.max(-c, 0) / 14;
+        }
+        for (int i = 15; i <= last; i++) {
+            double c = price(i) - price(i - 1);
+            gain = (gain * 13 + Math.max(c, 0)) / 14;
+            loss = (loss * 13 + Math.max(-c, 0)) / 14;
+        }
+        assertEquals(100 - 100 / (1 + gain / loss), r.getRsi14()[last], 1e-9);
+    }
+
+    @Test
+    void replacingLastDayEqualsFreshComputation() {
+        IndicatorSeries s = build(200);
+        // 당일 재수집: 먼저 다른 값으로 들어왔다가 최종값으로 교체
+        s.append(date(200), (int) START.plusDays(200).toEpochDay(), 1);
+        s.append(date(200), (int) START.plusDays(200).toEpochDay(), price(200));
+
+        IndicatorRange replaced = s.range(0, Integer.MAX_VALUE, 1000);
+        IndicatorRange fresh = build(201).range(0, Integer.MAX_VALUE, 1000);
+
+        assertEquals(201, replaced.getTotalPoints());
+        assertEquals(fresh.getMa20()[200], replaced.getMa20()[200]);
+        assertEquals(fresh.getEma26()[200], replaced.getEma26()[200]);
+        assertEquals(fresh.getRsi14()[200], replaced.getRsi14()[200]);
+        assertEquals(fresh.getBbLower()[200], replaced.getBbLower()[200]);
+    }
+}
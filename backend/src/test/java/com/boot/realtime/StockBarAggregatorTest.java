@@ -0,0 +1,68 @@
+package com.boot.realtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.boot.dto.StockBarDTO;
+
+class StockBarAggregatorTest {
+
+    private static final long MINUTE = 60_000L;
+    // 5분 경계에 맞춘 기준 시각
+    private static final long T0 = 1_700_000_100_000L;
+
+    private static StockTick tick(long price, long timestamp) {
+        return new StockTick("005930", 0, price, 0, 0, 10, timestamp);
+    }
+
+    @Test
+    void aggregatesTicksAndClosesOnNextInterval() {
+        StockBarAggregator aggregator = new StockBarAggregator(new int[] {1}, 100);
+
+        aggregator.onTick(tick(100, T0 + 1_000));
+        aggregator.onTick(tick(120, T0 + 2_000));
+        aggregator.onTick(tick(90, T0 + 3_000));
+        aggregator.onTick(tick(110, T0 + MINUTE + 1_000));
+
+        List<StockBarDTO> closed = aggregator.drainClosed(10);
+        assertEquals(1, closed.size());
+        StockBarDTO bar = closed.get(0);
+        assertEquals(T0, bar.getBarTime().getTime());
+        assertEquals(100L, bar.getOpenPr());
+        assertEquals(120L, bar.getHighPr());
+        assertEquals(90L, bar.getLowPr());
+        assertEquals(90L, bar.getClosePr());
+        assertEquals(30L, bar.getVolume());
+        assertEquals(3, bar.getTickCount());
+        assertEquals(110L, aggregator.getOpenBar("005930", 1).getOpenPr());
+    }
+
+    @Test
+    void lateTickAfterExpiryCloseDoesNotReopenClosedBar() {
+        StockBarAggregator aggregator = new StockBarAggregator(new int[] {1, 5}, 100);
+
+        aggregator.onTick(tick(100, T0 + 1_000));
+        // 1분봉만 닫힘 (5분봉은 아직 구간 안)
+        aggregator.closeExpired(T0 + MINUTE + 2_000, 1_000);
+        assertEquals(1, aggregator.drainClosed(10).size());
+        assertNull(aggregator.getOpenBar("005930", 1));
+
+        // 클라이언트 시각이 닫힌 구간에 속한 늦은 틱
+        aggregator.onTick(tick(105, T0 + 59_000));
+
+        assertNull(aggregator.getOpenBar("005930", 1));
+        assertEquals(1L, aggregator.getLateTickCount());
+        assertEquals(0, aggregator.getPendingCount());
+        // 5분봉은 닫히지 않았으므로 그대로 반영
+        assertEquals(2, aggregator.getOpenBar("005930", 5).getTickCount());
+
+        // 다음 구간 틱은 정상적으로 새 봉을 연다
+        aggregator.onTick(tick(107, T0 + MINUTE + 3_000));
+        assertEquals(107L, aggregator.getOpenBar("005930", 1).getOpenPr());
+        assertEquals(0, aggregator.getPendingCount());
+    }
+}
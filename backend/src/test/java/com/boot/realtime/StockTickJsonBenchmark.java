@@ -0,0 +1,55 @@
+package com.boot.realtime;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 실시간 틱 한 건 수신 → 재전송: StockTick(타입 지정) vs 기존 Map
+ *
+ * 실행: 테스트 클래스패스로 main() 실행 (-prof gc 결과로 할당량도 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StockTickJsonBenchmark {
+
+    // ws_domestic_stock.py 가 보내는 형식 (숫자가 문자열)
+    private static final String PYTHON_PAYLOAD =
+            "{\"code\":\"005930\",\"currentPrice\":\"71500\",\"priceChange\":\"-500\",\"changeRate\":\"-0.69\"}";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Benchmark
+    public byte[] typed() throws Exception {
+        return mapper.writeValueAsBytes(mapper.readValue(PYTHON_PAYLOAD, StockTick.class));
+    }
+
+    @Benchmark
+    public byte[] map() throws Exception {
+        return mapper.writeValueAsBytes(mapper.readValue(PYTHON_PAYLOAD, Map.class));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(StockTickJsonBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
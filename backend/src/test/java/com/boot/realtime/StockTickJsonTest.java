@@ -0,0 +1,67 @@
+package com.boot.realtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+class StockTickJsonTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    // ws_domestic_stock.py 가 보내는 형식 (숫자가 문자열)
+    private static final String PYTHON_PAYLOAD =
+            "{\"code\":\"005930\",\"currentPrice\":\"71500\",\"priceChange\":\"-500\",\"changeRate\":\"-0.69\"}";
+
+    @Test
+    void readsPythonStringPayload() throws Exception {
+        StockTick tick = mapper.readValue(PYTHON_PAYLOAD, StockTick.class);
+
+        assertEquals("005930", tick.code());
+        assertEquals(71500L, tick.price());
+        assertEquals(-500, tick.change());
+        assertEquals(-69, tick.changeRateBp());
+        assertTrue(tick.timestamp() > 0);
+    }
+
+    @Test
+    void readsNumericAndNestedPushPayload() throws Exception {
+        StockTick tick = mapper.readValue(
+                "{\"stockCode\":\"000660\",\"data\":{\"currentPrice\":128000,\"priceChange\":1500,"
+                        + "\"changeRate\":1.2,\"extra\":[1,2]},\"timestamp\":1700000000000}",
+                StockTick.class);
+
+        assertEquals("000660", tick.code());
+        assertEquals(128000L, tick.price());
+        assertEquals(1500, tick.change());
+        assertEquals(120, tick.changeRateBp());
+        assertEquals(1700000000000L, tick.timestamp());
+    }
+
+    @Test
+    void writesFrontendFieldNames() throws Exception {
+        JsonNode node = mapper.readTree(mapper.writeValueAsString(
+                new StockTick("005930", 7, 71500, -500, -69, 120, 1700000000000L, 1699990000000L)));
+
+        assertEquals("005930", node.get("code").asText());
+        assertEquals(71500L, node.get("currentPrice").asLong());
+        assertEquals(-500, node.get("priceChange").asInt());
+        assertEquals(-0.69, node.get("changeRate").asDouble(), 1e-9);
+        assertEquals(7L, node.get("seq").asLong());
+        assertEquals(1699990000000L, node.get("epoch").asLong());
+        assertEquals(120L, node.get("volume").asLong());
+    }
+
+    @Test
+    void rejectsMissingCodeAndMalformedNumbers() {
+        assertThrows(MismatchedInputException.class,
+                () -> mapper.readValue("{\"currentPrice\":\"100\"}", StockTick.class));
+        assertThrows(Exception.class,
+                () -> mapper.readValue("{\"code\":\"005930\",\"currentPrice\":\"1O0\"}", StockTick.class));
+    }
+}
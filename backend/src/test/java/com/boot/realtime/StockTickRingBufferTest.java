@@ -0,0 +1,68 @@
+package com.boot.realtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class StockTickRingBufferTest {
+
+    private static StockTick tick(long price) {
+        return new StockTick("005930", 0, price, 0, 0, 1, price);
+    }
+
+    @Test
+    void keepsOnlyLastCapacityTicks() {
+        StockTickRingBuffer buffer = new StockTickRingBuffer("005930", 4);
+        assertNull(buffer.latest());
+
+        for (int i = 1; i <= 10; i++) {
+            assertEquals(i, buffer.append(tick(1000 + i)));
+        }
+
+        assertEquals(7, buffer.firstSeq());
+        assertEquals(10, buffer.latest().seq());
+        assertEquals(1010, buffer.latest().price());
+
+        List<StockTick> all = buffer.since(0, 100);
+        assertEquals(4, all.size());
+        assertEquals(7, all.get(0).seq());
+        assertEquals(1007, all.get(0).price());
+    }
+
+    @Test
+    void resumesFromSequence() {
+        StockTickRingBuffer buffer = new StockTickRingBuffer("005930", 8);
+        for (int i = 1; i <= 6; i++) buffer.append(tick(i));
+
+        List<StockTick> resumed = buffer.since(4, 100);
+        assertEquals(2, resumed.size());
+        assertEquals(5, resumed.get(0).seq());
+        assertEquals(6, resumed.get(1).seq());
+
+        assertTrue(buffer.since(6, 100).isEmpty());
+        assertEquals(List.of(6L), buffer.since(0, 1).stream().map(StockTick::seq).toList());
+    }
+
+    @Test
+    void registryStampsSeqAndBoundsCodes() {
+        StockTickBuffers buffers = new StockTickBuffers(4, 1);
+
+        assertEquals(1, buffers.append(tick(100)).seq());
+        StockTick second = buffers.append(tick(101));
+        assertEquals(2, second.seq());
+        // 보관한 틱과 다시 읽은 틱 모두 버퍼의 epoch 를 싣는다
+        assertTrue(buffers.getEpoch() > 0);
+        assertEquals(buffers.getEpoch(), second.epoch());
+        assertEquals(buffers.getEpoch(), buffers.since("005930", 0, 10).get(0).epoch());
+
+        // 종목 수 상한 초과 → 보관하지 않고 seq 0 으로 통과
+        StockTick other = buffers.append(new StockTick("000660", 0, 1, 0, 0, 1, 1));
+        assertEquals(0, other.seq());
+        assertEquals(0, other.epoch());
+        assertNull(buffers.latest("000660"));
+    }
+}
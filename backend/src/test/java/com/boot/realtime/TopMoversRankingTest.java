@@ -0,0 +1,116 @@
+package com.boot.realtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import com.boot.dto.StockInfoDTO;
+
+class TopMoversRankingTest {
+
+    // push 내용을 기록만 하는 템플릿
+    static class RecordingTemplate extends SimpMessagingTemplate {
+        final List<Object> sent = new ArrayList<>();
+
+        RecordingTemplate() {
+            super((message, timeout) -> true);
+        }
+
+        @Override
+        public void convertAndSend(String destination, Object payload) {
+            assertEquals(TopMoversRanking.TOPIC, destination);
+            sent.add(payload);
+        }
+    }
+
+    private static List<String> codes(List<StockInfoDTO> list) {
+        return list.stream().map(StockInfoDTO::getStockCode).collect(Collectors.toList());
+    }
+
+    @Test
+    void ordersTopAndBottomN() {
+        TopMoversRanking ranking = new TopMoversRanking(null, new RecordingTemplate(), 2);
+        ranking.update("000001", "A", 1.5);
+        ranking.update("000002", "B", -3.0);
+        ranking.update("000003", "C", 7.25);
+        ranking.update("000004", "D", -0.5);
+
+        assertEquals(List.of("000003", "000001"), codes(ranking.topRising()));
+        assertEquals(List.of("000002", "000004"), codes(ranking.topFalling()));
+        assertEquals(7.25, ranking.topRising().get(0).getChangeRate(), 1e-9);
+        assertEquals("C", ranking.topRising().get(0).getStockName());
+    }
+
+    @Test
+    void rerankingSameCodeDoesNotDuplicateIt() {
+        TopMoversRanking ranking = new TopMoversRanking(null, new RecordingTemplate(), 3);
+        ranking.update("000001", "A", 1.0);
+        ranking.update("000002", "B", 2.0);
+        ranking.update("000001", null, 5.0);
+        ranking.onTick(new StockTick("000001", 1, 100, 0, 300, 1, 1));
+
+        assertEquals(List.of("000001", "000002"), codes(ranking.topRising()));
+        assertEquals(List.of("000002", "000001"), codes(ranking.topFalling()));
+        assertEquals(3.0, ranking.topRising().get(0).getChangeRate(), 1e-9);
+        // 이름은 틱 갱신 후에도 유지
+        assertEquals("A", ranking.topRising().get(0).getStockName());
+    }
+
+    @Test
+    void pushesOnlyWhenMembershipChanges() {
+        RecordingTemplate template = new RecordingTemplate();
+        TopMoversRanking ranking = new TopMoversRanking(null, template, 2);
+        ranking.update("000001", "A", 5.0);
+        ranking.update("000002", "B", 4.0);
+        ranking.update("000003", "C", -5.0);
+        ranking.update("000005", "E", -6.0);
+        int afterSeed = template.sent.size();
+
+        // 상위 2 안에서 등락률/순서만 바뀜 → push 없음
+        ranking.update("000002", null, 6.0);
+        ranking.update("000001", null, 5.5);
+        assertEquals(afterSeed, template.sent.size());
+
+        // 새 종목이 상위 2 에 진입 → push
+        ranking.update("000004", "D", 9.0);
+        assertEquals(afterSeed + 1, template.sent.size());
+        @SuppressWarnings("unchecked")
+        Map<String, List<StockInfoDTO>> pushed = (Map<String, List<StockInfoDTO>>) template.sent.get(afterSeed);
+        assertEquals(List.of("000004", "000002"), codes(pushed.get("rising")));
+
+        // 같은 등락률 재수신 → push 없음
+        ranking.update("000004", null, 9.0);
+        assertEquals(afterSeed + 1, template.sent.size());
+    }
+
+    @Test
+    void readersNeverSeeDuplicatesWhileUpdating() throws Exception {
+        // 조회는 lock 없이 하므로 remove → add 사이에 종목이 잠깐 빠질 수는 있다 (허용)
+        // 단, 순회 중 자리를 옮긴 종목이 두 번 보이거나 size 를 넘지는 않아야 함
+        TopMoversRanking ranking = new TopMoversRanking(null, new RecordingTemplate(), 3);
+        for (int i = 0; i < 10; i++) {
+            ranking.update(String.format("%06d", i), null, (double) i);
+        }
+
+        Thread writer = new Thread(() -> {
+            for (int n = 0; n < 20_000; n++) {
+                ranking.update(String.format("%06d", n % 10), null, (double) (n % 97) - 48);
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            List<String> rising = codes(ranking.topRising());
+            assertTrue(rising.size() <= 3);
+            assertEquals(rising.size(), rising.stream().distinct().count());
+        }
+        writer.join();
+        assertEquals(3, ranking.topRising().size());
+    }
+}
@@ -0,0 +1,64 @@
+package com.boot.scheduler;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 테스트용 Redis 대체 (SET NX PX / INCR / 비교 후 PEXPIRE·DEL 의미를 메모리로)
+ * 여러 LeaseManager 가 같은 인스턴스를 공유하면 여러 노드가 같은 Redis 를 보는 것과 같다.
+ */
+public class InMemoryLeaseStore implements LeaseStore {
+
+    private record Value(String value, long expiresAt) {}
+
+    private final Map<String, Value> values = new HashMap<>();
+    private final Map<String, Long> counters = new HashMap<>();
+
+    @Override
+    public synchronized long increment(String key) {
+        return counters.merge(key, 1L, Long::sum);
+    }
+
+    @Override
+    public synchronized boolean setIfAbsent(String key, String value, long ttlMillis) {
+        if (live(key) != null) return false;
+        values.put(key, new Value(value, System.currentTimeMillis() + ttlMillis));
+        return true;
+    }
+
+    @Override
+    public synchronized boolean expireIfEquals(String key, String value, long ttlMillis) {
+        Value v = live(key);
+        if (v == null || !v.value().equals(value)) return false;
+        values.put(key, new Value(value, System.currentTimeMillis() + ttlMillis));
+        return true;
+    }
+
+    @Override
+    public synchronized boolean deleteIfEquals(String key, String value) {
+        Value v = live(key);
+        if (v == null || !v.value().equals(value)) return false;
+        values.remove(key);
+        return true;
+    }
+
+    @Override
+    public synchronized String get(String key) {
+        Value v = live(key);
+        return v == null ? null : v.value();
+    }
+
+    // 키 만료 흉내 (보유 노드가 멈춰 TTL 이 지난 상황)
+    public synchronized void expire(String key) {
+        values.remove(key);
+    }
+
+    private Value live(String key) {
+        Value v = values.get(key);
+        if (v != null && v.expiresAt() <= System.currentTimeMillis()) {
+            values.remove(key);
+            return null;
+        }
+        return v;
+    }
+}
@@ -0,0 +1,212 @@
+package com.boot.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.boot.dao.IndexJobRunDAO;
+import com.boot.dto.IndexJobRunDTO;
+import com.boot.index.IndexCollectReport;
+
+class IndexJobRunnerTest {
+
+    // INDEX_JOB_RUN 펜싱 조건을 그대로 흉내 (지수당 1행, SCHEDULE_DONE_AT 은 startRun 이 건드리지 않음)
+    static class FencedRunTable implements IndexJobRunDAO {
+        final Map<String, IndexJobRunDTO> rows = new HashMap<>();
+
+        @Override
+        public synchronized int startRun(IndexJobRunDTO run) {
+            IndexJobRunDTO cur = rows.get(run.getJobName());
+            if (cur != null && cur.getFenceToken() >= run.getFenceToken()) return 0;
+            IndexJobRunDTO row = cur != null ? cur : new IndexJobRunDTO();
+            row.setJobName(run.getJobName());
+            row.setFenceToken(run.getFenceToken());
+            row.setTriggerType(run.getTriggerType());
+            row.setStatus("RUNNING");
+            row.setStartedAt(new Date());
+            rows.put(run.getJobName(), row);
+            return 1;
+        }
+
+        @Override
+        public synchronized int finishRun(IndexJobRunDTO run) {
+            IndexJobRunDTO cur = rows.get(run.getJobName());
+            if (cur == null || !cur.getFenceToken().equals(run.getFenceToken())) return 0;
+            if ("DONE".equals(run.getStatus()) && IndexJobRunner.TRIGGER_SCHEDULE.equals(cur.getTriggerType())) {
+                cur.setScheduleDoneAt(cur.getStartedAt());
+            }
+            cur.setStatus(run.getStatus());
+            cur.setDurationMs(run.getDurationMs());
+            cur.setRowCount(run.getRowCount());
+            return 1;
+        }
+
+        @Override
+        public synchronized int countScheduleDoneToday(String jobName) {
+            IndexJobRunDTO cur = rows.get(jobName);
+            if (cur == null || cur.getScheduleDoneAt() == null) return 0;
+            LocalDate done = cur.getScheduleDoneAt().toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+            return done.equals(LocalDate.now()) ? 1 : 0;
+        }
+
+        @Override
+        public synchronized List<IndexJobRunDTO> selectRuns() {
+            return new ArrayList<>(rows.values());
+        }
+    }
+
+    private static IndexCollectReport report(int rows) {
+        IndexCollectReport r = IndexCollectReport.empty("코스피");
+        r.setRows(rows);
+        return r;
+    }
+
+    @Test
+    void onlyOneNodeRunsWhileLeaseIsHeld() throws Exception {
+        InMemoryLeaseStore redis = new InMemoryLeaseStore();
+        FencedRunTable table = new FencedRunTable();
+        IndexJobRunner nodeA = new IndexJobRunner(new LeaseManager(redis, 60_000), table);
+        IndexJobRunner nodeB = new IndexJobRunner(new LeaseManager(redis, 60_000), table);
+
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<IndexJobRunDTO> a = pool.submit(() -> nodeA.run("코스피", IndexJobRunner.TRIGGER_SCHEDULE, held -> {
+                running.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return report(42);
+            }));
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+
+            IndexJobRunDTO b = nodeB.run("코스피", IndexJobRunner.TRIGGER_SCHEDULE, held -> report(1));
+            assertEquals("SKIPPED", b.getStatus());
+
+            release.countDown();
+            IndexJobRunDTO done = a.get(5, TimeUnit.SECONDS);
+            assertEquals("DONE", done.getStatus());
+            assertEquals(42, done.getRowCount());
+            assertTrue(done.getDurationMs() >= 0);
+            assertEquals(42, table.rows.get(IndexJobRunner.leaseName("코스피")).getRowCount());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // 해제 후에는 다른 노드가 더 큰 토큰으로 실행
+        IndexJobRunDTO next = nodeB.run("코스피", IndexJobRunner.TRIGGER_STARTUP, held -> report(3));
+        assertEquals("DONE", next.getStatus());
+        assertTrue(next.getFenceToken() > 1);
+        assertNull(redis.get("lease:" + IndexJobRunner.leaseName("코스피")));
+    }
+
+    @Test
+    void staleHolderCannotReleaseOrRecordAfterExpiry() throws Exception {
+        InMemoryLeaseStore redis = new InMemoryLeaseStore();
+        FencedRunTable table = new FencedRunTable();
+        LeaseManager managerA = new LeaseManager(redis, 60_000);
+        IndexJobRunner nodeA = new IndexJobRunner(managerA, table);
+        IndexJobRunner nodeB = new IndexJobRunner(new LeaseManager(redis, 60_000), table);
+        String key = "lease:" + IndexJobRunner.leaseName("코스닥");
+
+        // A 가 실행 중 멈춘 사이 리스가 만료되고 B 가 새 토큰으로 실행
+        IndexJobRunDTO stale = nodeA.run("코스닥", IndexJobRunner.TRIGGER_SCHEDULE, held -> {
+            redis.expire(key);
+            IndexJobRunDTO b = nodeB.run("코스닥", IndexJobRunner.TRIGGER_SCHEDULE, heldB -> report(7));
+            assertEquals("DONE", b.getStatus());
+            return report(99);
+        });
+
+        assertEquals("FENCED", stale.getStatus());
+        assertEquals(7, table.rows.get(IndexJobRunner.leaseName("코스닥")).getRowCount());
+
+        // 만료된 리스 해제는 새 보유자의 키를 지우지 않음
+        Optional<Lease> c = new LeaseManager(redis, 60_000).tryAcquire(IndexJobRunner.leaseName("코스닥"));
+        assertTrue(c.isPresent());
+        Optional<Lease> a = managerA.tryAcquire(IndexJobRunner.leaseName("코스닥"));
+        assertFalse(a.isPresent());
+        redis.expire(key);
+        Lease late = managerA.tryAcquire(IndexJobRunner.leaseName("코스닥")).orElseThrow();
+        c.get().close();
+        assertEquals(late.getValue(), redis.get(key));
+        assertTrue(late.getToken() > c.get().getToken());
+        late.close();
+    }
+
+    @Test
+    void scheduledRunIsSkippedOnceDoneToday() throws Exception {
+        InMemoryLeaseStore redis = new InMemoryLeaseStore();
+        FencedRunTable table = new FencedRunTable();
+        IndexJobRunner nodeA = new IndexJobRunner(new LeaseManager(redis, 60_000), table);
+        IndexJobRunner nodeB = new IndexJobRunner(new LeaseManager(redis, 60_000), table);
+
+        assertEquals("DONE", nodeA.run("코스피", IndexJobRunner.TRIGGER_SCHEDULE, held -> report(5)).getStatus());
+
+        // cron 이 늦게 뜬 노드는 리스를 얻어도 다시 수집하지 않음
+        int[] calls = {0};
+        IndexJobRunDTO late = nodeB.run("코스피", IndexJobRunner.TRIGGER_SCHEDULE, held -> {
+            calls[0]++;
+            return report(5);
+        });
+        assertEquals("SKIPPED", late.getStatus());
+        assertEquals(0, calls[0]);
+        assertEquals(5, table.rows.get(IndexJobRunner.leaseName("코스피")).getRowCount());
+
+        // 그 뒤 기동 동기화가 같은 행을 덮어써도 스케줄 완료 기록은 유지
+        assertEquals("DONE", nodeB.run("코스피", IndexJobRunner.TRIGGER_STARTUP, held -> report(0)).getStatus());
+        assertEquals("SKIPPED", nodeA.run("코스피", IndexJobRunner.TRIGGER_SCHEDULE, held -> {
+            calls[0]++;
+            return report(5);
+        }).getStatus());
+        assertEquals(0, calls[0]);
+
+        // 실패한 실행은 다시 시도
+        FencedRunTable failedTable = new FencedRunTable();
+        IndexJobRunner nodeC = new IndexJobRunner(new LeaseManager(redis, 60_000), failedTable);
+        assertThrows(IllegalStateException.class, () -> nodeC.run("코스닥", IndexJobRunner.TRIGGER_SCHEDULE, held -> {
+            throw new IllegalStateException("api down");
+        }));
+        assertEquals("FAILED", failedTable.rows.get(IndexJobRunner.leaseName("코스닥")).getStatus());
+        assertEquals("DONE", nodeC.run("코스닥", IndexJobRunner.TRIGGER_SCHEDULE, held -> report(2)).getStatus());
+    }
+
+    @Test
+    void jobSeesLeaseLossWhileRunning() throws Exception {
+        InMemoryLeaseStore redis = new InMemoryLeaseStore();
+        IndexJobRunner node = new IndexJobRunner(new LeaseManager(redis, 1_000), new FencedRunTable());
+        String key = "lease:" + IndexJobRunner.leaseName("코스피");
+
+        boolean[] seen = new boolean[2];
+        node.run("코스피", IndexJobRunner.TRIGGER_STARTUP, held -> {
+            seen[0] = held.getAsBoolean();
+            // 만료 → 다음 갱신(ttl/3)에서 상실 감지
+            redis.expire(key);
+            long deadline = System.currentTimeMillis() + 3_000;
+            while (held.getAsBoolean() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            seen[1] = held.getAsBoolean();
+            return report(0);
+        });
+
+        assertTrue(seen[0]);
+        assertFalse(seen[1]);
+    }
+}
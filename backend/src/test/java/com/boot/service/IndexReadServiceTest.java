@@ -0,0 +1,129 @@
+package com.boot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.boot.cache.CacheVersions;
+import com.boot.dao.IndexDAO;
+import com.boot.dto.IndexDataDTO;
+import com.boot.index.IndexRegistry;
+import com.boot.index.IndexSeries;
+
+class IndexReadServiceTest {
+
+    // STOCK_INDEX_DATA 대신 메모리 행 목록
+    static class RowsDAO implements IndexDAO {
+        final List<IndexDataDTO> rows = new ArrayList<>();
+        int fullLoads;
+
+        void add(String basDt, double clpr) {
+            IndexDataDTO dto = new IndexDataDTO();
+            dto.setIdxNm("코스피");
+            dto.setBasDt(basDt);
+            dto.setClpr(clpr);
+            rows.add(dto);
+            rows.sort((a, b) -> a.getBasDt().compareTo(b.getBasDt()));
+        }
+
+        @Override
+        public void upsertIndexData(IndexDataDTO dto) {
+        }
+
+        @Override
+        public List<IndexDataDTO> selectHistory(String idxNm) {
+            fullLoads++;
+            return new ArrayList<>(rows);
+        }
+
+        @Override
+        public List<IndexDataDTO> selectHistorySince(String idxNm, String basDt) {
+            return rows.stream().filter(r -> r.getBasDt().compareTo(basDt) >= 0).collect(Collectors.toList());
+        }
+
+        @Override
+        public String selectLatestBasDt(String idxNm) {
+            return rows.isEmpty() ? null : rows.get(rows.size() - 1).getBasDt();
+        }
+
+        @Override
+        public List<IndexDataDTO> selectLatestByIndex(List<String> idxNms) {
+            return List.of();
+        }
+    }
+
+    // Redis 대신 다른 노드가 올린 버전을 직접 지정
+    static class FixedVersions extends CacheVersions {
+        String version = INITIAL;
+
+        FixedVersions() {
+            super(null, 0);
+        }
+
+        @Override
+        public String current(String cacheName, String namespace) {
+            return version;
+        }
+    }
+
+    private final RowsDAO dao = new RowsDAO();
+    private final FixedVersions versions = new FixedVersions();
+    private final IndexReadService service = new IndexReadService();
+
+    IndexReadServiceTest() {
+        ReflectionTestUtils.setField(service, "indexDAO", dao);
+        ReflectionTestUtils.setField(service, "cacheVersions", versions);
+        ReflectionTestUtils.setField(service, "indexRegistry", new IndexRegistry(List.of("kospi:코스피:19800104")));
+    }
+
+    @Test
+    void followsVersionBumpedByAnotherNode() {
+        dao.add("20260101", 100);
+        dao.add("20260102", 101);
+        versions.version = "20260102-2";
+        IndexSeries before = service.getSeries("kospi");
+        String etag = service.getETag("kospi");
+
+        // 다른 노드가 수집 후 버전을 올림 (이 노드는 refreshSeries 를 호출하지 않음)
+        dao.add("20260105", 102);
+        assertSame(before, service.getSeries("kospi"));
+        versions.version = "20260105-3";
+
+        IndexSeries after = service.getSeries("kospi");
+        assertEquals("20260105", after.lastBasDt());
+        assertEquals(3, after.size());
+        assertEquals(1, dao.fullLoads);
+        assertEquals(false, etag.equals(service.getETag("kospi")));
+    }
+
+    @Test
+    void gapFillBeforeLastDateReloadsWholeSeries() {
+        dao.add("20260101", 100);
+        dao.add("20260105", 102);
+        versions.version = "20260105-2";
+        service.getSeries("kospi");
+
+        // 누락 구간 보충: 마지막 날짜 이전 행 추가 + 새 행 1개
+        dao.add("20260102", 101);
+        dao.add("20260106", 103);
+        versions.version = "20260106-4";
+
+        IndexSeries after = service.getSeries("kospi");
+        assertEquals(4, after.size());
+        assertEquals(101, after.clprAt(1));
+        assertEquals(2, dao.fullLoads);
+    }
+
+    @Test
+    void manualInvalidationIsNotADataVersion() {
+        assertEquals(12, IndexReadService.versionRowCount("20260105-12"));
+        assertEquals(-1, IndexReadService.versionRowCount("20260105-12~1760000000000"));
+        assertEquals(-1, IndexReadService.versionRowCount(CacheVersions.INITIAL));
+    }
+}
@@ -0,0 +1,28 @@
+package com.boot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class NewsCacheInvalidatorTest {
+
+    @Test
+    void onlyNewOrChangedStocksAreInvalidated() {
+        Map<String, String> before = Map.of("005930", "3:101:20261019100000", "000660", "1:90:20261019095000");
+        Map<String, String> after = Map.of(
+                "005930", "4:105:20261019100500",   // 신규 기사
+                "000660", "1:90:20261019095000",    // 그대로
+                "035420", "1:104:20261019100400");  // 처음 등장 (종목 코드 보정 포함)
+
+        assertEquals(Set.of("005930", "035420"), NewsCacheInvalidator.changedCodes(before, after));
+    }
+
+    @Test
+    void keyOfStockCacheStartsWithStockCode() {
+        assertEquals("005930", NewsCacheInvalidator.stockCodeOf("005930"));
+        assertEquals("005930", NewsCacheInvalidator.stockCodeOf("005930:period:7"));
+    }
+}
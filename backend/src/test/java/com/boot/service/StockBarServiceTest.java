@@ -0,0 +1,86 @@
+package com.boot.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.boot.dao.StockBarDAO;
+import com.boot.dto.StockBarDTO;
+import com.boot.realtime.StockBarAggregator;
+
+class StockBarServiceTest {
+
+    // 거래량이 음수인 봉은 항상 실패, down 이면 연결 장애
+    static class FakeBarTable implements StockBarDAO {
+        final List<StockBarDTO> saved = new ArrayList<>();
+        boolean down;
+
+        @Override
+        public int mergeBars(List<StockBarDTO> bars) {
+            if (down) throw new CannotGetJdbcConnectionException("connection refused");
+            if (bars.stream().anyMatch(b -> b.getVolume() < 0)) {
+                throw new DataIntegrityViolationException("ORA-01438: value larger than specified precision");
+            }
+            saved.addAll(bars);
+            return bars.size();
+        }
+
+        @Override
+        public List<StockBarDTO> selectRecentBars(String stockCode, int intervalMin, int limit) {
+            return List.of();
+        }
+    }
+
+    private static StockBarDTO bar(int minute, long volume) {
+        return new StockBarDTO("005930", 1, new Date(minute * 60_000L), 100L, 100L, 100L, 100L, volume, 1);
+    }
+
+    private static StockBarService service(StockBarAggregator aggregator, FakeBarTable table) {
+        StockBarService service = new StockBarService(aggregator, table);
+        ReflectionTestUtils.setField(service, "batchSize", 3);
+        return service;
+    }
+
+    @Test
+    void badBarIsDroppedAndRestOfChunkIsSaved() {
+        StockBarAggregator aggregator = new StockBarAggregator(new int[] {1}, 100);
+        FakeBarTable table = new FakeBarTable();
+        aggregator.requeue(List.of(bar(1, 10), bar(2, -1), bar(3, 10), bar(4, 10)));
+
+        StockBarService service = service(aggregator, table);
+        service.flushClosedBars();
+
+        assertEquals(3, table.saved.size());
+        assertEquals(1, service.getFailedBars());
+        assertEquals(0, aggregator.getPendingCount());
+
+        // 다음 주기에 같은 봉을 다시 시도하지 않음
+        service.flushClosedBars();
+        assertEquals(3, table.saved.size());
+    }
+
+    @Test
+    void connectionFailureRequeuesWholeChunk() {
+        StockBarAggregator aggregator = new StockBarAggregator(new int[] {1}, 100);
+        FakeBarTable table = new FakeBarTable();
+        aggregator.requeue(List.of(bar(1, 10), bar(2, 10)));
+        table.down = true;
+
+        StockBarService service = service(aggregator, table);
+        service.flushClosedBars();
+        assertEquals(2, aggregator.getPendingCount());
+        assertEquals(0, service.getFailedBars());
+
+        table.down = false;
+        service.flushClosedBars();
+        assertEquals(2, table.saved.size());
+        assertEquals(0, aggregator.getPendingCount());
+    }
+}
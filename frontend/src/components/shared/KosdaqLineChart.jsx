@@ -35,15 +35,17 @@ function KosdaqLineChart() {
 
   useEffect(() => {
     axios
-      .get("http://localhost:8484/api/chart/kosdaq-history")
+      .get("http://localhost:8484/api/chart/kosdaq/history", { params: { maxPoints: 400 } })
       .then((res) => {
         console.log("🔥 KOSDAQ RAW DATA:", res.data);
-        if (!Array.isArray(res.data)) {
+        // 서버에서 최대 400 포인트로 다운샘플링된 구간
+        const points = res.data?.points;
+        if (!Array.isArray(points)) {
           console.error("Kosdaq 응답 형식 오류:", res.data);
           return;
         }
 
-        const mapped = res.data
+        const mapped = points
           .map((item) => ({
             date: String(item.basDt), // basDt 강제 문자열 변환 ⭐
             value: Number(item.clpr), // clpr 숫자 변환
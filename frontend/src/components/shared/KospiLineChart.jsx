@@ -35,15 +35,17 @@ function KospiLineChart() {
 
   useEffect(() => {
     axios
-      .get("http://localhost:8484/api/chart/kospi-history")
+      .get("http://localhost:8484/api/chart/kospi/history", { params: { maxPoints: 400 } })
       .then((res) => {
         console.log("🔥 KOSPI RAW DATA:", res.data);
-        if (!Array.isArray(res.data)) {
+        // 서버에서 최대 400 포인트로 다운샘플링된 구간
+        const points = res.data?.points;
+        if (!Array.isArray(points)) {
           console.error("Kospi 응답 형식 오류:", res.data);
           return;
         }
 
-        const mapped = res.data
+        const mapped = points
           .map((item) => ({
             date: String(item.basDt), // ⭐ basDt를 무조건 문자열로 변환
             value: Number(item.clpr), // clpr 숫자로 변환
@@ -450,6 +450,8 @@ function StockDetailPage() {
     // STOMP 객체
     const stompClientRef = useRef(null);
     const subscriptionRef = useRef(null);
+    const lastSeqRef = useRef(0); // 마지막으로 받은 틱 seq (재접속 시 이어받기)
+    const epochRef = useRef(0); // seq 를 매긴 서버 스트림 id (서버 재시작/다른 노드면 달라짐)
     // Flask 구독 상태 추적 (종료 시 해제용)
     const subscribedFlaskRef = useRef(false); 
 
@@ -524,18 +526,37 @@ function StockDetailPage() {
             reconnectDelay: 5000,
         });
 
+        lastSeqRef.current = 0;
+        epochRef.current = 0;
+
         client.onConnect = () => {
              // 개별 토픽 구독: /topic/stock/{stockCode}
+             // 구독 직후 서버가 최근 틱을 바로 보내주며, 재접속이면 sinceSeq 이후분만 받는다
+            const headers = lastSeqRef.current > 0
+                ? { sinceSeq: String(lastSeqRef.current), epoch: String(epochRef.current) }
+                : {};
             subscriptionRef.current = client.subscribe(
                 `/topic/stock/${stockCode}`,
                 (msg) => {
                     const d = JSON.parse(msg.body);
+
+                    // 이미 받은 틱(스냅샷/실시간 중복)은 무시
+                    if (d.seq) {
+                        // 서버가 바뀌면 seq 가 1부터 다시 시작하므로 이전 seq 는 버린다
+                        if (d.epoch !== epochRef.current) {
+                            epochRef.current = d.epoch;
+                            lastSeqRef.current = 0;
+                        }
+                        if (d.seq <= lastSeqRef.current) return;
+                        lastSeqRef.current = d.seq;
+                    }
                     
                     // 가격 업데이트
                     setRtPrice(Number(d.currentPrice)); // 숫자로 변환
                     setRtPriceChange(Number(d.priceChange));
                     setRtChangeRate(Number(d.changeRate));
-                }
+                },
+                headers
             );
         };
 